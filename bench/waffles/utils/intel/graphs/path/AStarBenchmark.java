@@ -0,0 +1,155 @@
+package waffles.utils.intel.graphs.path;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import waffles.utils.intel.graphs.Path;
+
+/**
+ * The {@code AStarBenchmark} measures the throughput of the {@code AStarSearch} on generated scenarios.
+ * Every invocation solves one query of a {@code PathScenario}, cycling through a fixed set of queries.
+ * The throughput is measured by {@code #connect()} with statistics disabled. A separate
+ * {@code #profile(Counters)} benchmark runs the same queries with {@code AStarStatistics},
+ * and reports the number of expanded nodes per query as an auxiliary counter, along with
+ * the number of {@code Heuristic.cost(Object)} calls counted by the scenario. The allocation rate is
+ * measured by running the suite with the {@code gc} profiler:
+ * <pre>
+ * java -jar benchmarks.jar AStarBenchmark -prof gc
+ * </pre>
+ * The suite requires JMH on the classpath, and lives in its own source folder so that
+ * the library itself does not depend on it. See {@code bench/README.md} to build it.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @see PathScenario
+ * @see AStarSearch
+ */
+@Fork(1)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AStarBenchmark
+{
+	/**
+	 * The {@code AStarBenchmark.Counters} report search statistics per operation.
+	 * 
+	 * @author Waffles
+	 * @since 18 Oct 2026
+	 * @version 1.0
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Counters
+	{
+		/**
+		 * The number of expanded nodes.
+		 */
+		public long expanded;
+		/**
+		 * The number of accepted paths.
+		 */
+		public long accepted;
+		/**
+		 * The number of cost calls.
+		 */
+		public long costs;
+		
+		/**
+		 * Resets the {@code Counters}.
+		 */
+		@Setup(Level.Iteration)
+		public void reset()
+		{
+			expanded = 0;
+			accepted = 0;
+			costs = 0;
+		}
+	}
+	
+	
+	@Param({"OPEN", "MAZE", "RANDOM_10", "RANDOM_25", "RANDOM_40", "WAYPOINTS"})
+	private PathScenario.Type type;
+	@Param({"64", "256", "1024", "4096"})
+	private int size;
+	
+	private int query;
+	private PathScenario scenario;
+	private AStarSearch<Integer> search, counted;
+	private AStarStatistics stats;
+	
+	/**
+	 * Sets up the {@code AStarBenchmark}.
+	 */
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		scenario = new PathScenario(type, size, 64, 42L);
+		search = new AStarSearch<>(0L, scenario);
+		search.setBudget(0, 0L);
+		
+		stats = new AStarStatistics();
+		counted = new AStarSearch<>(0L, scenario);
+		counted.setStatistics(stats);
+		counted.setBudget(0, 0L);
+	}
+	
+	/**
+	 * Solves the next query of the {@code PathScenario}.
+	 * 
+	 * @return  a result path
+	 * 
+	 * 
+	 * @see Path
+	 */
+	@Benchmark
+	public Path<Integer> connect()
+	{
+		Integer src = scenario.Source(query);
+		Integer tgt = scenario.Target(query++);
+		return search.connect(src, tgt);
+	}
+	
+	/**
+	 * Solves the next query while counting its work.
+	 * 
+	 * @param c  a counter state
+	 * @return  a result path
+	 * 
+	 * 
+	 * @see Path
+	 */
+	@Benchmark
+	public Path<Integer> profile(Counters c)
+	{
+		long exp = stats.Expanded();
+		long acc = stats.Accepted();
+		long cst = scenario.Calls();
+		
+		Integer src = scenario.Source(query);
+		Integer tgt = scenario.Target(query++);
+		Path<Integer> path = counted.connect(src, tgt);
+		
+		c.expanded += stats.Expanded() - exp;
+		c.accepted += stats.Accepted() - acc;
+		c.costs += scenario.Calls() - cst;
+		return path;
+	}
+}
\ No newline at end of file
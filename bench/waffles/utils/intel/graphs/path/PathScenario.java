@@ -0,0 +1,416 @@
+package waffles.utils.intel.graphs.path;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import waffles.utils.intel.utilities.cost.Heuristic;
+
+/**
+ * A {@code PathScenario} generates a reproducible graph and a set of queries for benchmarking.
+ * Grid scenarios address every cell by its flat index {@code row * size + col} on a 4-connected
+ * grid of uniform cost, estimated by the Manhattan distance. The waypoint scenario places one
+ * node on a jittered lattice for every 8 x 8 cells, and connects most lattice neighbours.
+ * Queries run from the upper left to the lower right quadrant, so that every search
+ * has to cross most of the graph. Every call to {@link #cost(Integer)} is counted,
+ * which shows how often a search queries the cost of a single node.
+ * <br>
+ * To keep the scenario out of the measured allocation rate, node indices are boxed
+ * once, and {@link #neighbours(Integer)} returns a single reused view over an
+ * {@code int} buffer. The view is only valid until the next call, so the
+ * scenario is not concurrent.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @see Heuristic
+ */
+public class PathScenario implements Heuristic<Integer>
+{
+	/**
+	 * The {@code PathScenario.Type} enum defines the layouts of a {@code PathScenario}.
+	 * 
+	 * @author Waffles
+	 * @since 18 Oct 2026
+	 * @version 1.0
+	 */
+	public static enum Type
+	{
+		/**
+		 * A grid without any obstacles.
+		 */
+		OPEN,
+		/**
+		 * A perfect maze carved by a depth-first search.
+		 */
+		MAZE,
+		/**
+		 * A grid with 10% random obstacles.
+		 */
+		RANDOM_10,
+		/**
+		 * A grid with 25% random obstacles.
+		 */
+		RANDOM_25,
+		/**
+		 * A grid with 40% random obstacles.
+		 */
+		RANDOM_40,
+		/**
+		 * A sparse graph of jittered waypoints.
+		 */
+		WAYPOINTS;
+	}
+	
+	
+	private static final int[] DROWS = { -1,  0, +1,  0, -1, -1, +1, +1 };
+	private static final int[] DCOLS = {  0, +1,  0, -1, -1, +1, +1, -1 };
+	
+	private class View implements Iterable<Integer>, Iterator<Integer>
+	{
+		private int[] nodes;
+		private int index, count;
+		
+		public View()
+		{
+			nodes = new int[8];
+		}
+		
+		
+		@Override
+		public Iterator<Integer> iterator()
+		{
+			index = 0;
+			return this;
+		}
+		
+		@Override
+		public boolean hasNext()
+		{
+			return index < count;
+		}
+		
+		@Override
+		public Integer next()
+		{
+			return box(nodes[index++]);
+		}
+	}
+	
+	
+	private int size;
+	private Type type;
+	private boolean[] walls;
+	
+	private float span;
+	private float[] xs, ys;
+	private int[][] links;
+	
+	private int[] sources, targets;
+	private Integer[] boxes;
+	private View view;
+	private long calls;
+	
+	/**
+	 * Creates a new {@code PathScenario}.
+	 * 
+	 * @param t     a scenario type
+	 * @param s     a grid size
+	 * @param q     a query count
+	 * @param seed  a random seed
+	 */
+	public PathScenario(Type t, int s, int q, long seed)
+	{
+		Random rng = new Random(seed);
+		
+		type = t;
+		size = s;
+		switch(t)
+		{
+		case OPEN:
+			walls = new boolean[s * s];
+			break;
+		case MAZE:
+			carve(rng);
+			break;
+		case RANDOM_10:
+			scatter(rng, 0.10f);
+			break;
+		case RANDOM_25:
+			scatter(rng, 0.25f);
+			break;
+		case RANDOM_40:
+			scatter(rng, 0.40f);
+			break;
+		case WAYPOINTS:
+			connect(rng);
+			break;
+		}
+		
+		int count = type == Type.WAYPOINTS ? links.length : s * s;
+		boxes = new Integer[count];
+		view = new View();
+		
+		sources = new int[q];
+		targets = new int[q];
+		for(int i = 0; i < q; i++)
+		{
+			sources[i] = pick(rng, 0);
+			targets[i] = pick(rng, 1);
+		}
+	}
+	
+	
+	/**
+	 * Returns a query source of the {@code PathScenario}.
+	 * 
+	 * @param i  a query index
+	 * @return  a source node
+	 */
+	public Integer Source(int i)
+	{
+		return box(sources[i % sources.length]);
+	}
+	
+	/**
+	 * Returns a query target of the {@code PathScenario}.
+	 * 
+	 * @param i  a query index
+	 * @return  a target node
+	 */
+	public Integer Target(int i)
+	{
+		return box(targets[i % targets.length]);
+	}
+	
+	
+	/**
+	 * Returns the cost calls of the {@code PathScenario}.
+	 * 
+	 * @return  a cost call count
+	 */
+	public long Calls()
+	{
+		return calls;
+	}
+	
+	
+	@Override
+	public Iterable<Integer> neighbours(Integer tgt)
+	{
+		view.count = 0;
+		if(type == Type.WAYPOINTS)
+		{
+			for(int next : links[tgt])
+			{
+				view.nodes[view.count++] = next;
+			}
+			
+			return view;
+		}
+		
+		int r = tgt / size;
+		int c = tgt % size;
+		for(int d = 0; d < 4; d++)
+		{
+			int nr = r + DROWS[d];
+			int nc = c + DCOLS[d];
+			if(isOpen(nr, nc))
+			{
+				view.nodes[view.count++] = nr * size + nc;
+			}
+		}
+		
+		return view;
+	}
+	
+	@Override
+	public float estimate(Integer src, Integer tgt)
+	{
+		if(type == Type.WAYPOINTS)
+		{
+			float dx = xs[src] - xs[tgt];
+			float dy = ys[src] - ys[tgt];
+			// Every hop covers at most the longest link.
+			return (float) Math.sqrt(dx * dx + dy * dy) / span;
+		}
+		
+		int dr = Math.abs(src / size - tgt / size);
+		int dc = Math.abs(src % size - tgt % size);
+		return dr + dc;
+	}
+	
+	@Override
+	public boolean isConcurrent()
+	{
+		return false;
+	}
+	
+	@Override
+	public float cost(Integer tgt)
+	{
+		calls++;
+		return 1f;
+	}
+	
+	
+	private Integer box(int i)
+	{
+		Integer id = boxes[i];
+		if(id == null)
+		{
+			id = i;
+			boxes[i] = id;
+		}
+		
+		return id;
+	}
+	
+	private boolean isOpen(int r, int c)
+	{
+		if(r < 0 || size <= r) return false;
+		if(c < 0 || size <= c) return false;
+		return !walls[r * size + c];
+	}
+	
+	private int pick(Random rng, int quad)
+	{
+		int side = type == Type.WAYPOINTS ? (int) Math.sqrt(xs.length) : size;
+		int half = side / 2;
+		while(true)
+		{
+			int r = rng.nextInt(half) + quad * (side - half);
+			int c = rng.nextInt(half) + quad * (side - half);
+			if(type == Type.WAYPOINTS || isOpen(r, c))
+			{
+				return r * side + c;
+			}
+		}
+	}
+	
+	private void scatter(Random rng, float dens)
+	{
+		walls = new boolean[size * size];
+		for(int i = 0; i < walls.length; i++)
+		{
+			walls[i] = rng.nextFloat() < dens;
+		}
+	}
+	
+	private void carve(Random rng)
+	{
+		walls = new boolean[size * size];
+		for(int i = 0; i < walls.length; i++)
+		{
+			walls[i] = true;
+		}
+		
+		// Cells lie on even rows and columns.
+		int cells = (size + 1) / 2;
+		boolean[] visited = new boolean[cells * cells];
+		int[] stack = new int[cells * cells];
+		
+		int top = 0;
+		stack[top++] = 0;
+		visited[0] = true;
+		walls[0] = false;
+		
+		int[] dirs = new int[4];
+		while(top > 0)
+		{
+			int cell = stack[top - 1];
+			int r = cell / cells;
+			int c = cell % cells;
+			
+			// Collect the unvisited neighbour cells.
+			int count = 0;
+			for(int d = 0; d < 4; d++)
+			{
+				int nr = r + DROWS[d];
+				int nc = c + DCOLS[d];
+				if(0 <= nr && nr < cells && 0 <= nc && nc < cells)
+				{
+					if(!visited[nr * cells + nc])
+					{
+						dirs[count++] = d;
+					}
+				}
+			}
+			
+			if(count == 0)
+			{
+				top--;
+				continue;
+			}
+			
+			// Carve a passage to a random one.
+			int d = dirs[rng.nextInt(count)];
+			int nr = r + DROWS[d];
+			int nc = c + DCOLS[d];
+			walls[(2 * r + DROWS[d]) * size + 2 * c + DCOLS[d]] = false;
+			walls[(2 * nr) * size + 2 * nc] = false;
+			visited[nr * cells + nc] = true;
+			stack[top++] = nr * cells + nc;
+		}
+	}
+	
+	private void connect(Random rng)
+	{
+		int side = size / 8 < 2 ? 2 : size / 8;
+		int count = side * side;
+		
+		xs = new float[count];
+		ys = new float[count];
+		for(int i = 0; i < count; i++)
+		{
+			xs[i] = i % side + 0.4f * (rng.nextFloat() - 0.5f);
+			ys[i] = i / side + 0.4f * (rng.nextFloat() - 0.5f);
+		}
+		
+		// Link most lattice neighbours in both directions.
+		List<List<Integer>> adj = new ArrayList<>(count);
+		for(int i = 0; i < count; i++)
+		{
+			adj.add(new ArrayList<>());
+		}
+		
+		for(int i = 0; i < count; i++)
+		{
+			int r = i / side;
+			int c = i % side;
+			for(int d = 0; d < 8; d++)
+			{
+				int nr = r + DROWS[d];
+				int nc = c + DCOLS[d];
+				if(nr < 0 || side <= nr || nc < 0 || side <= nc)
+				{
+					continue;
+				}
+				
+				int j = nr * side + nc;
+				if(i < j && rng.nextFloat() < 0.6f)
+				{
+					adj.get(i).add(j);
+					adj.get(j).add(i);
+					
+					float dx = xs[i] - xs[j];
+					float dy = ys[i] - ys[j];
+					span = Math.max(span, (float) Math.sqrt(dx * dx + dy * dy));
+				}
+			}
+		}
+		
+		links = new int[count][];
+		for(int i = 0; i < count; i++)
+		{
+			links[i] = new int[adj.get(i).size()];
+			for(int k = 0; k < links[i].length; k++)
+			{
+				links[i][k] = adj.get(i).get(k);
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -1,18 +1,24 @@
 package waffles.utils.intel.graphs;
 
 import java.util.Iterator;
-
-import waffles.utils.sets.queues.delegate.JDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * A {@code Path} defines a chain of objects, internally stored as a {@link JDeque}.
+ * A {@code Path} defines a chain of objects, internally stored as a tail object linked to a parent path.
+ * Extending a {@code Path} shares the parent chain instead of copying it, so each extension
+ * costs constant time and memory. A {@code Path} can also track its accumulated cost,
+ * given the cost of every step as it is extended. Long paths lazily build a membership
+ * index, which the paths extending them join, so that checking whether an object
+ * lies along the path takes constant expected time.
  * {@code Path} objects are used in {@code Path.Finder} algorithms.
- *
+ * 
  * @author Waffles
  * @since 29 Mar 2024
  * @version 1.0
- *
- *
+ * 
+ * 
  * @param <O>  an object type
  * @see Iterable
  */
@@ -20,12 +26,12 @@ public class Path<O> implements Iterable<O>
 {
 	/**
 	 * A {@code Path.Finder} attempts to find a {@code Path} between objects.
-	 *
+	 * 
 	 * @author Waffles
 	 * @since 29 Mar 2024
 	 * @version 1.1
-	 *
-	 *
+	 * 
+	 * 
 	 * @param <O>  an object type
 	 */
 	@FunctionalInterface
@@ -43,36 +49,136 @@ public class Path<O> implements Iterable<O>
 		 */
 		public abstract Path<O> connect(O src, O tgt);
 	}
-
 	
-	private JDeque<O> nodes;
+	/**
+	 * A {@code Path.Seeker} attempts to find a {@code Path} to the nearest of several objects.
+	 * The target which was reached is the tail of the resulting path.
+	 * 
+	 * @author Waffles
+	 * @since 18 Oct 2026
+	 * @version 1.0
+	 * 
+	 * 
+	 * @param <O>  an object type
+	 */
+	@FunctionalInterface
+	public static interface Seeker<O>
+	{
+		/**
+		 * Connects a source to the nearest of a set of targets.
+		 * 
+		 * @param src   a source object
+		 * @param tgts  a set of target objects
+		 * @return  a path to the nearest target
+		 * 
+		 * 
+		 * @see Path
+		 * @see Set
+		 */
+		public abstract Path<O> nearest(O src, Set<O> tgts);
+	}
+	
+	
+	private static final int INDEX_LIMIT = 32;
+	
+	private static class Index<O>
+	{
+		private AtomicInteger size;
+		private ConcurrentHashMap<O, Integer> depths;
+		
+		public Index(Path<O> path)
+		{
+			depths = new ConcurrentHashMap<>();
+			size = new AtomicInteger(path.Length());
+			
+			// Store the first depth of every object,
+			// by overwriting it from tail to head.
+			Path<O> curr = path;
+			for(int i = path.Length() - 1; i >= 0; i--)
+			{
+				depths.put(curr.Tail(), i);
+				curr = curr.Parent();
+			}
+		}
+		
+		
+		public boolean append(Path<O> path)
+		{
+			int depth = path.Length() - 1;
+			// Only the last indexed path can be extended.
+			if(!size.compareAndSet(depth, depth + 1))
+			{
+				return false;
+			}
+			
+			depths.putIfAbsent(path.Tail(), depth);
+			path.index = this;
+			return true;
+		}
+		
+		public boolean reaches(Path<O> path, O obj)
+		{
+			Integer depth = depths.get(obj);
+			return depth != null && depth < path.Length();
+		}
+	}
+	
+	
+	private int length;
+	private float cost;
+	private O head, tail;
+	private Path<O> parent;
+	private volatile Index<O> index;
 	
 	/**
 	 * Creates a new {@code Path}.
+	 * The step cost is added to the cost of the
+	 * source path, which is untracked if either
+	 * of them is {@code Float.NaN}.
 	 * 
-	 * @param src  a source path
-	 * @param tgt  a target object
+	 * @param src   a source path
+	 * @param tgt   a target object
+	 * @param step  a step cost
 	 */
-	public Path(Path<O> src, O tgt)
+	public Path(Path<O> src, O tgt, float step)
 	{
-		nodes = new JDeque<>();
-		for(O obj : src)
+		if(src == null || src.Length() == 0)
 		{
-			nodes.add(obj);
+			head = tgt;
+			tail = tgt;
+			cost = step;
+			length = 1;
+			return;
 		}
 		
-		nodes.add(tgt);
+		parent = src;
+		head = src.Head();
+		length = src.Length() + 1;
+		cost = src.Cost() + step;
+		tail = tgt;
+	}
+	
+	/**
+	 * Creates a new {@code Path}.
+	 * Its cost is not tracked.
+	 * 
+	 * @param src  a source path
+	 * @param tgt  a target object
+	 */
+	public Path(Path<O> src, O tgt)
+	{
+		this(src, tgt, Float.NaN);
 	}
 	
 	/**
 	 * Creates a new {@code Path}.
+	 * Its cost is not tracked.
 	 * 
 	 * @param tgt  a target object
 	 */
 	public Path(O tgt)
 	{
-		nodes = new JDeque<>();
-		nodes.add(tgt);
+		this(null, tgt);
 	}
 	
 	/**
@@ -80,9 +186,10 @@ public class Path<O> implements Iterable<O>
 	 */
 	public Path()
 	{
-		nodes = new JDeque<>();
+		length = 0;
+		cost = 0f;
 	}
-
+	
 	
 	/**
 	 * Checks an object ends at the {@code Path}.
@@ -97,23 +204,74 @@ public class Path<O> implements Iterable<O>
 	
 	/**
 	 * Checks an object along the {@code Path}.
+	 * Short paths are scanned, while long paths
+	 * share an index with the paths they extend.
 	 * 
 	 * @param obj  an object to check
 	 * @return  {@code true} if along the path
 	 */
 	public boolean reaches(O obj)
 	{
-		for(O tgt : nodes)
+		int steps = 0;
+		Path<O> curr = this;
+		while(curr != null && curr.Length() > 0)
 		{
-			if(obj.equals(tgt))
+			// If the path is covered by an index...
+			Index<O> idx = curr.index;
+			if(idx != null)
+			{
+				// ...extend it over the scanned objects.
+				if(curr != this)
+				{
+					extend(idx, curr, steps);
+				}
+				
+				return idx.reaches(curr, obj);
+			}
+			
+			if(obj.equals(curr.Tail()))
 			{
 				return true;
 			}
+			
+			// If the scan grows too long...
+			if(INDEX_LIMIT <= ++steps)
+			{
+				// ...index the entire path.
+				return index().reaches(this, obj);
+			}
+			
+			curr = curr.Parent();
 		}
 		
 		return false;
 	}
 	
+	/**
+	 * Returns the parent of the {@code Path}.
+	 * This is the shared path which precedes
+	 * the tail, or {@code null} if the
+	 * path is at most one object long.
+	 * 
+	 * @return  a parent path
+	 */
+	public Path<O> Parent()
+	{
+		return parent;
+	}
+	
+	/**
+	 * Returns the cost of the {@code Path}.
+	 * This is the sum of all step costs, or
+	 * {@code Float.NaN} if it is not tracked.
+	 * 
+	 * @return  a path cost
+	 */
+	public float Cost()
+	{
+		return cost;
+	}
+	
 	/**
 	 * Returns the length of the {@code Path}.
 	 * 
@@ -121,9 +279,9 @@ public class Path<O> implements Iterable<O>
 	 */
 	public int Length()
 	{
-		return nodes.Count();
+		return length;
 	}
-
+	
 	/**
 	 * Returns the head of the {@code Path}.
 	 * 
@@ -131,7 +289,7 @@ public class Path<O> implements Iterable<O>
 	 */
 	public O Head()
 	{
-		return nodes.peekFirst();
+		return head;
 	}
 	
 	/**
@@ -141,13 +299,96 @@ public class Path<O> implements Iterable<O>
 	 */
 	public O Tail()
 	{
-		return nodes.peekLast();
+		return tail;
+	}
+	
+	
+	private boolean extend(Index<O> idx, Path<O> base, int steps)
+	{
+		// If another path already extends the base...
+		if(idx.size.get() != base.Length())
+		{
+			// ...the index cannot be shared.
+			return false;
+		}
+		
+		// Collect the paths beyond the base.
+		@SuppressWarnings("unchecked")
+		Path<O>[] suffix = new Path[steps];
+		Path<O> curr = this;
+		for(int i = steps - 1; i >= 0; i--)
+		{
+			suffix[i] = curr;
+			curr = curr.Parent();
+		}
+		
+		// Append them to the index in order.
+		for(Path<O> path : suffix)
+		{
+			if(!idx.append(path))
+			{
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	private Index<O> index()
+	{
+		// Find the nearest indexed ancestor.
+		int steps = 0;
+		Path<O> curr = this;
+		while(curr != null && curr.index == null)
+		{
+			curr = curr.Parent();
+			steps++;
+		}
+		
+		// If it can be extended to this path...
+		if(curr != null && extend(curr.index, curr, steps))
+		{
+			// ...share its index.
+			return index;
+		}
+		
+		// Otherwise, index the entire path.
+		Index<O> idx = new Index<>(this);
+		index = idx;
+		return idx;
 	}
 	
 	
 	@Override
 	public Iterator<O> iterator()
 	{
-		return nodes.iterator();
+		// Collect the chain from tail to head.
+		Object[] nodes = new Object[length];
+		
+		Path<O> curr = this;
+		for(int i = length - 1; i >= 0; i--)
+		{
+			nodes[i] = curr.Tail();
+			curr = curr.Parent();
+		}
+		
+		// Iterate it from head to tail.
+		return new Iterator<>()
+		{
+			private int index;
+			
+			@Override
+			public boolean hasNext()
+			{
+				return index < nodes.length;
+			}
+			
+			@SuppressWarnings("unchecked")
+			@Override
+			public O next()
+			{
+				return (O) nodes[index++];
+			}
+		};
 	}
 }
\ No newline at end of file
@@ -0,0 +1,271 @@
+package waffles.utils.intel.graphs.path;
+
+import java.util.Set;
+
+import waffles.utils.intel.graphs.Path;
+import waffles.utils.intel.utilities.cost.Heuristic;
+import waffles.utils.sets.keymaps.delegate.JHashMap;
+import waffles.utils.tools.primitives.Floats;
+
+/**
+ * An {@code AStarContext} runs repeated {@code AStarSearch} queries without allocating search state.
+ * Every object keeps a single pooled node across queries, which is tagged with the generation
+ * of the query that last touched it. Starting a new query only increments the generation,
+ * so stale nodes are recognized and reinitialized on demand rather than cleared. Nodes
+ * link to their parent node instead of a {@code Path}, and the resulting path is only
+ * built once the target is reached. A context is not thread-safe, so each thread
+ * should own its own, but it can be reused for any number of queries.
+ * <br>
+ * As a {@code Path.Seeker}, the context also searches for the nearest of a set of targets
+ * in a single query. For a few targets, the estimate is the smallest estimate to any of
+ * them. For many targets, computing that minimum would outweigh the nodes it saves,
+ * so the search falls back to Dijkstra, which stops at the first target it settles.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <O>  an object type
+ * @see AStarSearch
+ * @see Heuristic
+ * @see Path
+ */
+public class AStarContext<O> implements Path.Finder<O>, Path.Seeker<O>
+{
+	private static final int ESTIMATE_LIMIT = 16;
+	
+	
+	private static class Entry<O> extends AStarNode<O>
+	{
+		private int stamp;
+		private O object;
+		private Entry<O> parent;
+		
+		public Entry(O obj)
+		{
+			super(null, 0f, 0f);
+			object = obj;
+		}
+	}
+	
+	
+	private O target;
+	private Set<O> targets;
+	private Object[] goals;
+	private int count;
+	
+	private int stamp;
+	private Object[] trace;
+	private Heuristic<O> heur;
+	private AStarQueue<O> queue;
+	private JHashMap<O, Entry<O>> nodes;
+	
+	/**
+	 * Creates a new {@code AStarContext}.
+	 * 
+	 * @param h  a path heuristic
+	 * 
+	 * 
+	 * @see Heuristic
+	 */
+	public AStarContext(Heuristic<O> h)
+	{
+		queue = new AStarQueue<>();
+		nodes = new JHashMap<>();
+		goals = new Object[ESTIMATE_LIMIT];
+		trace = new Object[16];
+		heur = h;
+	}
+	
+	/**
+	 * Returns the target of the {@code AStarContext}.
+	 * This is the target reached by the latest query,
+	 * or {@code null} if none was reached.
+	 * 
+	 * @return  a target object
+	 */
+	public O Target()
+	{
+		return target;
+	}
+	
+	/**
+	 * Clears the {@code AStarContext}.
+	 * This releases all pooled nodes.
+	 */
+	public void clear()
+	{
+		nodes = new JHashMap<>();
+		queue.clear();
+		stamp = 0;
+	}
+	
+	
+	@Override
+	public Path<O> nearest(O src, Set<O> tgts)
+	{
+		count = 0;
+		target = null;
+		targets = tgts;
+		// Only estimate towards a few targets.
+		if(tgts.size() <= ESTIMATE_LIMIT)
+		{
+			for(O tgt : tgts)
+			{
+				goals[count++] = tgt;
+			}
+		}
+		
+		Path<O> path = search(src);
+		for(int i = 0; i < count; i++)
+		{
+			goals[i] = null;
+		}
+		
+		targets = null;
+		return path;
+	}
+	
+	@Override
+	public Path<O> connect(O src, O tgt)
+	{
+		target = tgt;
+		return search(src);
+	}
+	
+	
+	private Path<O> search(O src)
+	{
+		reset();
+		
+		float cost = heur.cost(src);
+		visit(entry(src), null, cost, cost + estimate(src));
+		while(!queue.isEmpty())
+		{
+			// Find the next node.
+			Entry<O> curr = (Entry<O>) queue.pop();
+			curr.close();
+			
+			// If it reaches the destination...
+			if(reaches(curr.object))
+			{
+				// Build the resulting path.
+				target = curr.object;
+				return trace(curr);
+			}
+			
+			// Otherwise, for all neighbour nodes...
+			for(O next : heur.neighbours(curr.object))
+			{
+				Entry<O> node = entry(next);
+				float cNew = curr.Cost() + heur.cost(next);
+				// If the node is new in this query...
+				if(node.stamp != stamp)
+				{
+					visit(node, curr, cNew, cNew + estimate(next));
+				}
+				// If the new cost is better...
+				else if(cNew < node.Cost())
+				{
+					// Reuse the estimate of the node.
+					visit(node, curr, cNew, node.Score() - node.Cost() + cNew);
+				}
+			}
+		}
+		
+		target = null;
+		return null;
+	}
+	
+	private boolean reaches(O obj)
+	{
+		if(targets == null)
+		{
+			return obj.equals(target);
+		}
+		
+		return targets.contains(obj);
+	}
+	
+	@SuppressWarnings("unchecked")
+	private float estimate(O obj)
+	{
+		if(targets == null)
+		{
+			return heur.estimate(obj, target);
+		}
+		
+		// Take the smallest estimate to any target.
+		float min = count == 0 ? 0f : Floats.MAX_VALUE;
+		for(int i = 0; i < count; i++)
+		{
+			float est = heur.estimate(obj, (O) goals[i]);
+			min = est < min ? est : min;
+		}
+		
+		return min;
+	}
+	
+	private void reset()
+	{
+		stamp++;
+		// If the stamps overflow...
+		if(stamp == Integer.MAX_VALUE)
+		{
+			// ...release all nodes.
+			clear();
+			stamp = 1;
+		}
+		
+		queue.clear();
+	}
+	
+	private void visit(Entry<O> node, Entry<O> parent, float cost, float score)
+	{
+		node.stamp = stamp;
+		node.parent = parent;
+		node.update(null, cost, score);
+		queue.push(node);
+	}
+	
+	private Entry<O> entry(O obj)
+	{
+		Entry<O> node = nodes.get(obj);
+		if(node == null)
+		{
+			node = new Entry<>(obj);
+			nodes.put(obj, node);
+		}
+		
+		return node;
+	}
+	
+	private Path<O> trace(Entry<O> tail)
+	{
+		// Collect the objects in reverse.
+		int length = 0;
+		for(Entry<O> e = tail; e != null; e = e.parent)
+		{
+			if(length == trace.length)
+			{
+				Object[] copy = new Object[2 * length];
+				System.arraycopy(trace, 0, copy, 0, length);
+				trace = copy;
+			}
+			
+			trace[length++] = e.object;
+		}
+		
+		Path<O> path = new Path<>();
+		for(int i = length - 1; i >= 0; i--)
+		{
+			@SuppressWarnings("unchecked")
+			O obj = (O) trace[i];
+			path = new Path<>(path, obj, heur.cost(obj));
+			trace[i] = null;
+		}
+		
+		return path;
+	}
+}
\ No newline at end of file
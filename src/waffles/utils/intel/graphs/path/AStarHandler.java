@@ -3,11 +3,13 @@ package waffles.utils.intel.graphs.path;
 import waffles.utils.intel.graphs.Path;
 import waffles.utils.intel.utilities.cost.Heuristic;
 import waffles.utils.sets.keymaps.delegate.JHashMap;
-import waffles.utils.sets.queues.ordered.BSQueue;
-import waffles.utils.tools.primitives.Floats;
 
 /**
  * An {@code AStarHandler} holds all the intermediate data for an {@code AStarSearch}.
+ * Every object is tracked by a single {@code AStarNode}, which is updated in place
+ * whenever a better path to it is suggested. Nodes are closed once they are
+ * returned by {@link #next()}, so each object is expanded at most once
+ * under a consistent heuristic.
  *
  * @author Waffles
  * @since 02 Apr 2024
@@ -19,9 +21,12 @@ import waffles.utils.tools.primitives.Floats;
  */
 public class AStarHandler<O> implements Heuristic<O>
 {
+	private O target;
 	private Heuristic<O> heur;
-	private JHashMap<O, Float> cost;
-	private BSQueue<Path<O>> queue;
+	private AStarNode<O> curr;
+	private AStarQueue<O> queue;
+	private AStarStatistics stats;
+	private JHashMap<O, AStarNode<O>> nodes;
 
 	/**
 	 * Creates a new {@code AStarHandler}.
@@ -35,20 +40,32 @@ public class AStarHandler<O> implements Heuristic<O>
 	 */
 	public AStarHandler(Heuristic<O> h, O src, O tgt)
 	{
-		queue = new BSQueue<>((p1, p2) ->
-		{
-			float e1 = estimate(p1.Tail(), tgt);
-			float e2 = estimate(p2.Tail(), tgt);
-
-			float c1 = cost(p1) + e1;
-			float c2 = cost(p2) + e2;
-
-			return (int) Floats.sign(c1 - c2);
-		});
-		
-		queue.push(new Path<>(src));
-		cost = new JHashMap<>();
+		this(h, src, tgt, null);
+	}
+	
+	/**
+	 * Creates a new {@code AStarHandler}.
+	 * Events are counted in the statistics,
+	 * unless they are {@code null}.
+	 * 
+	 * @param h  a path heuristic
+	 * @param src  a source object
+	 * @param tgt  a target object
+	 * @param s  a statistics sample
+	 * 
+	 * 
+	 * @see AStarStatistics
+	 * @see Heuristic
+	 */
+	public AStarHandler(Heuristic<O> h, O src, O tgt, AStarStatistics s)
+	{
+		queue = new AStarQueue<>();
+		nodes = new JHashMap<>();
+		target = tgt;
+		stats = s;
 		heur = h;
+		
+		suggest(new Path<>(null, src, cost(src)));
 	}
 	
 	/**
@@ -62,17 +79,54 @@ public class AStarHandler<O> implements Heuristic<O>
 	public void suggest(Path<O> p)
 	{
 		O tail = p.Tail();
-		// Compute the old cost of the tail.
-		float cOld = oldCost(tail);
+		// Find the node of the tail.
+		AStarNode<O> node = nodes.get(tail);
 		// Compute the new cost of the path.
-		float cNew = cost(p);
+		float cNew = pathCost(p);
+		
+		// If the tail is unexplored...
+		if(node == null)
+		{
+			// Compute the score of the path.
+			float sNew = cNew + estimate(tail, target);
+			
+			// Add a new node to the queue.
+			node = new AStarNode<>(p, cNew, sNew);
+			nodes.put(tail, node);
+			queue.push(node);
+			
+			if(stats != null)
+			{
+				stats.onSuggest(true, false);
+				stats.onQueue(queue.Count());
+			}
+			
+			return;
+		}
 		
 		// If the new cost is better...
-		if(cNew < cOld)
+		if(cNew < node.Cost())
+		{
+			if(stats != null)
+			{
+				stats.onSuggest(true, 0 <= node.Index());
+			}
+			
+			// Reuse the estimate of the tail.
+			float sNew = node.Score() - node.Cost() + cNew;
+			
+			// Update the node in the queue.
+			node.update(p, cNew, sNew);
+			queue.push(node);
+			
+			if(stats != null)
+			{
+				stats.onQueue(queue.Count());
+			}
+		}
+		else if(stats != null)
 		{
-			// Add the path to the queue.
-			cost.put(tail, cNew);
-			queue.push(p);
+			stats.onSuggest(false, false);
 		}
 	}
 	
@@ -88,9 +142,43 @@ public class AStarHandler<O> implements Heuristic<O>
 	 */
 	public Path<O> next()
 	{
-		return queue.pop();
+		curr = queue.pop();
+		if(curr == null)
+		{
+			return null;
+		}
+		
+		if(stats != null)
+		{
+			stats.onExpand();
+		}
+		
+		curr.close();
+		return curr.Path();
 	}
 
+	/**
+	 * Returns the estimate of the current {@code Path}.
+	 * This is the estimated remaining cost from the
+	 * latest path returned by {@link #next()}.
+	 * 
+	 * @return  a cost estimate
+	 */
+	public float Estimate()
+	{
+		return curr.Score() - curr.Cost();
+	}
+	
+	/**
+	 * Returns the frontier size of the {@code AStarHandler}.
+	 * 
+	 * @return  an open node count
+	 */
+	public int Count()
+	{
+		return queue.Count();
+	}
+	
 	
 	@Override
 	public Iterable<O> neighbours(O tgt)
@@ -98,26 +186,56 @@ public class AStarHandler<O> implements Heuristic<O>
 		return heur.neighbours(tgt);
 	}
 
+	@Override
+	public Iterable<O> predecessors(O tgt)
+	{
+		return heur.predecessors(tgt);
+	}
+	
 	@Override
 	public float estimate(O src, O tgt)
 	{
+		if(stats != null)
+		{
+			stats.onEstimate();
+		}
+		
 		return heur.estimate(src, tgt);
 	}
 
+	@Override
+	public boolean isConcurrent()
+	{
+		return heur.isConcurrent();
+	}
+	
 	@Override
 	public float cost(O tgt)
 	{
+		if(stats != null)
+		{
+			stats.onCost();
+		}
+		
 		return heur.cost(tgt);
 	}
 
-	float oldCost(O tgt)
+	float pathCost(Path<O> p)
 	{
-		Float c = cost.get(tgt);
-		if(c == null)
+		// If the path tracks its own cost...
+		if(!Float.isNaN(p.Cost()))
+		{
+			// Return it at once.
+			return p.Cost();
+		}
+		
+		// If the path extends the current node...
+		if(curr != null && p.Parent() == curr.Path())
 		{
-			return Floats.MAX_VALUE;
+			// Reuse its cached cost.
+			return curr.Cost() + cost(p.Tail());
 		}
 		
-		return c;
+		return cost(p);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,152 @@
+package waffles.utils.intel.graphs.path;
+
+import waffles.utils.intel.graphs.Path;
+
+/**
+ * An {@code AStarNode} defines a single entry in the open list of an {@code AStarHandler}.
+ * It stores the accumulated cost of its {@code Path} along with its total score, so
+ * both are computed once when the path is suggested rather than on every comparison.
+ * Each node also tracks its position in an {@code AStarQueue}, and whether it has
+ * been closed by the search.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <O>  an object type
+ * @see Comparable
+ * @see Path
+ */
+public class AStarNode<O> implements Comparable<AStarNode<O>>
+{
+	private int index;
+	private boolean isClosed;
+	private float cost, score;
+	private Path<O> path;
+	
+	/**
+	 * Creates a new {@code AStarNode}.
+	 * 
+	 * @param p  a node path
+	 * @param c  a path cost
+	 * @param s  a path score
+	 * 
+	 * 
+	 * @see Path
+	 */
+	public AStarNode(Path<O> p, float c, float s)
+	{
+		index = -1;
+		update(p, c, s);
+	}
+	
+	
+	/**
+	 * Updates the {@code AStarNode} with a better path.
+	 * This reopens the node if it was closed.
+	 * 
+	 * @param p  a node path
+	 * @param c  a path cost
+	 * @param s  a path score
+	 * 
+	 * 
+	 * @see Path
+	 */
+	public void update(Path<O> p, float c, float s)
+	{
+		isClosed = false;
+		path = p;
+		cost = c;
+		score = s;
+	}
+	
+	/**
+	 * Checks if the {@code AStarNode} is closed.
+	 * 
+	 * @return  {@code true} if the node was expanded
+	 */
+	public boolean isClosed()
+	{
+		return isClosed;
+	}
+	
+	/**
+	 * Closes the {@code AStarNode}.
+	 */
+	public void close()
+	{
+		isClosed = true;
+	}
+	
+	/**
+	 * Returns the path of the {@code AStarNode}.
+	 * 
+	 * @return  a node path
+	 * 
+	 * 
+	 * @see Path
+	 */
+	public Path<O> Path()
+	{
+		return path;
+	}
+	
+	/**
+	 * Returns the score of the {@code AStarNode}.
+	 * This equals the path cost plus
+	 * the estimate to the target.
+	 * 
+	 * @return  a path score
+	 */
+	public float Score()
+	{
+		return score;
+	}
+	
+	/**
+	 * Returns the cost of the {@code AStarNode}.
+	 * 
+	 * @return  a path cost
+	 */
+	public float Cost()
+	{
+		return cost;
+	}
+	
+	/**
+	 * Returns the index of the {@code AStarNode}.
+	 * This is its position in an {@code AStarQueue},
+	 * or -1 if the node is not queued.
+	 * 
+	 * @return  a queue index
+	 */
+	public int Index()
+	{
+		return index;
+	}
+	
+	
+	void setIndex(int i)
+	{
+		index = i;
+	}
+	
+	@Override
+	public int compareTo(AStarNode<O> n)
+	{
+		// Order nodes by score first.
+		if(score != n.score)
+		{
+			return score < n.score ? -1 : 1;
+		}
+		
+		// Prefer the deeper node on ties.
+		if(cost != n.cost)
+		{
+			return cost > n.cost ? -1 : 1;
+		}
+		
+		return 0;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,224 @@
+package waffles.utils.intel.graphs.path;
+
+/**
+ * An {@code AStarQueue} is an indexed 4-ary heap of {@code AStarNode} objects.
+ * Every node stores its own position in the heap, which allows the queue to
+ * update the priority of a node in place instead of pushing a duplicate.
+ * The heap is ordered by the natural order of its nodes.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <O>  an object type
+ * @see AStarNode
+ */
+public class AStarQueue<O>
+{
+	private static final int ARITY = 4;
+	
+	
+	private int count;
+	private AStarNode<O>[] heap;
+	
+	/**
+	 * Creates a new {@code AStarQueue}.
+	 */
+	public AStarQueue()
+	{
+		this(64);
+	}
+	
+	/**
+	 * Creates a new {@code AStarQueue}.
+	 * 
+	 * @param size  an initial capacity
+	 */
+	public AStarQueue(int size)
+	{
+		heap = create(size);
+	}
+	
+	
+	/**
+	 * Pushes a node into the {@code AStarQueue}.
+	 * If the node is already queued, its position is
+	 * updated to reflect its current priority.
+	 * 
+	 * @param node  a search node
+	 * 
+	 * 
+	 * @see AStarNode
+	 */
+	public void push(AStarNode<O> node)
+	{
+		int i = node.Index();
+		// If the node is already queued...
+		if(0 <= i)
+		{
+			// ...restore the heap around it.
+			siftUp(i);
+			siftDown(node.Index());
+			return;
+		}
+		
+		// Otherwise, append it to the heap.
+		if(count == heap.length)
+		{
+			AStarNode<O>[] copy = create(2 * count);
+			System.arraycopy(heap, 0, copy, 0, count);
+			heap = copy;
+		}
+		
+		place(node, count++);
+		siftUp(count - 1);
+	}
+	
+	/**
+	 * Pops the first node from the {@code AStarQueue}.
+	 * 
+	 * @return  a search node
+	 * 
+	 * 
+	 * @see AStarNode
+	 */
+	public AStarNode<O> pop()
+	{
+		if(count == 0)
+		{
+			return null;
+		}
+		
+		AStarNode<O> first = heap[0];
+		AStarNode<O> last = heap[--count];
+		heap[count] = null;
+		
+		if(0 < count)
+		{
+			place(last, 0);
+			siftDown(0);
+		}
+		
+		first.setIndex(-1);
+		return first;
+	}
+	
+	/**
+	 * Returns the first node in the {@code AStarQueue}.
+	 * 
+	 * @return  a search node
+	 * 
+	 * 
+	 * @see AStarNode
+	 */
+	public AStarNode<O> peek()
+	{
+		if(count == 0)
+		{
+			return null;
+		}
+		
+		return heap[0];
+	}
+	
+	/**
+	 * Checks if the {@code AStarQueue} is empty.
+	 * 
+	 * @return  {@code true} if the queue is empty
+	 */
+	public boolean isEmpty()
+	{
+		return count == 0;
+	}
+	
+	/**
+	 * Returns the size of the {@code AStarQueue}.
+	 * 
+	 * @return  a node count
+	 */
+	public int Count()
+	{
+		return count;
+	}
+	
+	/**
+	 * Clears the {@code AStarQueue}.
+	 */
+	public void clear()
+	{
+		for(int i = 0; i < count; i++)
+		{
+			heap[i].setIndex(-1);
+			heap[i] = null;
+		}
+		
+		count = 0;
+	}
+	
+	
+	@SuppressWarnings("unchecked")
+	private AStarNode<O>[] create(int size)
+	{
+		return new AStarNode[size < 1 ? 1 : size];
+	}
+	
+	private void place(AStarNode<O> node, int i)
+	{
+		node.setIndex(i);
+		heap[i] = node;
+	}
+	
+	private void siftUp(int i)
+	{
+		AStarNode<O> node = heap[i];
+		while(0 < i)
+		{
+			int p = (i - 1) / ARITY;
+			if(heap[p].compareTo(node) <= 0)
+			{
+				break;
+			}
+			
+			place(heap[p], i);
+			i = p;
+		}
+		
+		place(node, i);
+	}
+	
+	private void siftDown(int i)
+	{
+		AStarNode<O> node = heap[i];
+		while(true)
+		{
+			int min = -1;
+			int first = ARITY * i + 1;
+			int last = first + ARITY;
+			if(count < last)
+			{
+				last = count;
+			}
+			
+			// Find the smallest child.
+			for(int c = first; c < last; c++)
+			{
+				if(min < 0 || heap[c].compareTo(heap[min]) < 0)
+				{
+					min = c;
+				}
+			}
+			
+			// If it does not precede the node...
+			if(min < 0 || node.compareTo(heap[min]) <= 0)
+			{
+				break;
+			}
+			
+			place(heap[min], i);
+			i = min;
+		}
+		
+		place(node, i);
+	}
+}
\ No newline at end of file
@@ -3,6 +3,7 @@ package waffles.utils.intel.graphs.path;
 import waffles.utils.intel.graphs.Path;
 import waffles.utils.intel.utilities.cost.Heuristic;
 import waffles.utils.phys.utilities.events.stepped.SteppedEvent;
+import waffles.utils.tools.primitives.Floats;
 
 /**
  * The {@code AStarSearch} algorithm computes an optimal path between connected objects.
@@ -10,7 +11,15 @@ import waffles.utils.phys.utilities.events.stepped.SteppedEvent;
  * and can assign each of them a cost and estimate. The initial values are set with the
  * {@code #start(Object, Object)} method, after which {@code #step()} iterates the
  * algorithm, while {@code #run()} completes it. The intermediate and
- * resulting paths are returned with {@code #Path()}.
+ * resulting paths are returned with {@code #Path()}. As a {@code Path.Finder}, the
+ * {@code #connect(Object, Object)} method combines both steps.
+ * <br>
+ * To spread a large search over several frames, {@code #schedule(Object, Object)} sets
+ * up the search without running it, and {@code #setBudget(int, long)} limits how many
+ * nodes each pulse expands, or how long it may take. In between pulses the search
+ * reports its progress through {@code #Partial()} and {@code #Frontier()}. A search
+ * can be held with {@code #suspend()}, which makes pulses skip it, until it is
+ * picked up again by {@code #resume()}.
  *  
  * @author Waffles
  * @since 01 Mar 2020
@@ -20,15 +29,24 @@ import waffles.utils.phys.utilities.events.stepped.SteppedEvent;
  * @see <a href="http://en.wikipedia.org/wiki/A*">A* search algorithm</a>
  * @param <O>  an object type
  * @see SteppedEvent
+ * @see Path
  */
-public class AStarSearch<O> extends SteppedEvent
+public class AStarSearch<O> extends SteppedEvent implements Path.Finder<O>
 {	
 	private Heuristic<O> heur;
 	private AStarHandler<O> data;
+	private AStarStatistics stats, sample;
+	private long time;
 	
-	private Path<O> path;
+	private Path<O> path, partial;
+	private float closest;
 	private O target;
 	
+	private int nodes;
+	private long nanos;
+	private boolean isFinished;
+	private boolean isSuspended;
+	
 	/**
 	 * Creates a new {@code AStarSearch}.
 	 * 
@@ -42,6 +60,59 @@ public class AStarSearch<O> extends SteppedEvent
 	{
 		super(b);
 		heur = h;
+		nodes = 1;
+	}
+	
+	/**
+	 * Changes the budget of the {@code AStarSearch}.
+	 * Each pulse expands at most the given number of nodes,
+	 * and stops once the given time has passed. A value
+	 * of zero removes the corresponding limit.
+	 * 
+	 * @param n  a node count per pulse
+	 * @param t  a time limit per pulse in nanoseconds
+	 */
+	public void setBudget(int n, long t)
+	{
+		nodes = n;
+		nanos = t;
+	}
+	
+	/**
+	 * Changes the statistics of the {@code AStarSearch}.
+	 * Every search adds its counters to these statistics
+	 * once it finishes. Setting them to {@code null}
+	 * disables all counting.
+	 * 
+	 * @param s  a statistics object
+	 * 
+	 * 
+	 * @see AStarStatistics
+	 */
+	public void setStatistics(AStarStatistics s)
+	{
+		stats = s;
+	}
+	
+	/**
+	 * Schedules the {@code AStarSearch} algorithm.
+	 * Unlike {@link #start(Object, Object)}, this does not run
+	 * the search, which only advances with each pulse.
+	 * 
+	 * @param src  a source object
+	 * @param tgt  a target object
+	 */
+	public void schedule(O src, O tgt)
+	{
+		sample = stats != null ? new AStarStatistics() : null;
+		data = new AStarHandler<>(heur, src, tgt, sample);
+		closest = Floats.MAX_VALUE;
+		time = 0L;
+		isFinished = false;
+		isSuspended = false;
+		partial = null;
+		target = tgt;
+		path = null;
 	}
 	
 	/**
@@ -52,11 +123,100 @@ public class AStarSearch<O> extends SteppedEvent
 	 */
 	public void start(O src, O tgt)
 	{
-		data = new AStarHandler<>(heur, src, tgt);
-		target = tgt;
+		schedule(src, tgt);
 		run();
 	}
 	
+	/**
+	 * Suspends the {@code AStarSearch} algorithm.
+	 * Pulses are skipped until it is resumed,
+	 * while its search state is kept.
+	 */
+	public void suspend()
+	{
+		isSuspended = true;
+	}
+	
+	/**
+	 * Resumes the {@code AStarSearch} algorithm.
+	 * This only lets the next pulses advance it
+	 * within their budget, and has no effect
+	 * once the search has finished.
+	 */
+	public void resume()
+	{
+		isSuspended = false;
+	}
+	
+	/**
+	 * Cancels the {@code AStarSearch} algorithm.
+	 * Its search state is discarded, while the
+	 * best partial path remains available.
+	 */
+	public void cancel()
+	{
+		if(!isFinished)
+		{
+			finish();
+		}
+		
+		data = null;
+		pause();
+	}
+	
+	/**
+	 * Checks if the {@code AStarSearch} has finished.
+	 * 
+	 * @return  {@code true} if the search has finished
+	 */
+	public boolean isFinished()
+	{
+		return isFinished;
+	}
+	
+	/**
+	 * Returns the statistics of the {@code AStarSearch}.
+	 * 
+	 * @return  a statistics object
+	 * 
+	 * 
+	 * @see AStarStatistics
+	 */
+	public AStarStatistics Statistics()
+	{
+		return stats;
+	}
+	
+	/**
+	 * Returns the frontier size of the {@code AStarSearch}.
+	 * 
+	 * @return  an open node count
+	 */
+	public int Frontier()
+	{
+		if(data == null)
+		{
+			return 0;
+		}
+		
+		return data.Count();
+	}
+	
+	/**
+	 * Returns the best partial path.
+	 * This is the expanded path which is estimated
+	 * to lie closest to the target so far.
+	 * 
+	 * @return  a partial path
+	 * 
+	 * 
+	 * @see Path
+	 */
+	public Path<O> Partial()
+	{
+		return partial;
+	}
+	
 	/**
 	 * Returns the current optimal path.
 	 * 
@@ -71,8 +231,71 @@ public class AStarSearch<O> extends SteppedEvent
 	}
 
 
+	@Override
+	public Path<O> connect(O src, O tgt)
+	{
+		start(src, tgt);
+		return Path();
+	}
+	
 	@Override
 	public void onPulse(long beat)
+	{
+		if(isFinished)
+		{
+			pause();
+			return;
+		}
+		
+		// Skip pulses while suspended.
+		if(isSuspended)
+		{
+			return;
+		}
+		
+		long start = nanos > 0 || sample != null ? System.nanoTime() : 0L;
+		for(int i = 0; nodes <= 0 || i < nodes; i++)
+		{
+			// If the search has finished...
+			if(!expand())
+			{
+				if(sample != null)
+				{
+					time += System.nanoTime() - start;
+				}
+				
+				finish();
+				pause(); return;
+			}
+			
+			// If the time budget is spent...
+			if(nanos > 0 && nanos <= System.nanoTime() - start)
+			{
+				break;
+			}
+		}
+		
+		// Wait for the next pulse.
+		if(sample != null)
+		{
+			time += System.nanoTime() - start;
+		}
+	}
+	
+	
+	private void finish()
+	{
+		isFinished = true;
+		// Merge the statistics of the search.
+		if(sample != null && stats != null)
+		{
+			sample.onSearch(time);
+			stats.add(sample);
+			sample = null;
+		}
+	}
+	
+	private boolean expand()
 	{
 		// Find the next path.
 		path = data.next();
@@ -80,14 +303,22 @@ public class AStarSearch<O> extends SteppedEvent
 		if(path == null)
 		{
 			// Finish the search.
-			pause(); return;
+			return false;
+		}
+		
+		// Keep track of the closest path.
+		float est = data.Estimate();
+		if(est < closest)
+		{
+			closest = est;
+			partial = path;
 		}
 		
 		// If it reaches the destination...
 		if(path.endsAt(target))
 		{
 			// Finish the search.
-			pause(); return;
+			return false;
 		}
 
 		
@@ -95,9 +326,11 @@ public class AStarSearch<O> extends SteppedEvent
 		for(O next : data.neighbours(path.Tail()))
 		{			
 			// Connect the path with the neighbour.
-			Path<O> pNew = new Path<>(path, next);
+			Path<O> pNew = new Path<>(path, next, data.cost(next));
 			// Suggest it as an optimal path.
 			data.suggest(pNew);
 		}
+		
+		return true;
 	}
 }
\ No newline at end of file
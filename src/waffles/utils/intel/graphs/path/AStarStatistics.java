@@ -0,0 +1,220 @@
+package waffles.utils.intel.graphs.path;
+
+/**
+ * An {@code AStarStatistics} object records what an {@code AStarSearch} spends its time on.
+ * Each search counts its own events in a private sample, which is only merged into the
+ * shared statistics once the search finishes. The counters therefore aggregate across
+ * any number of searches, even on several threads, while the search loop itself
+ * never synchronizes. Searches without statistics skip all counting.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @see AStarSearch
+ */
+public class AStarStatistics
+{
+	private long searches;
+	private long expanded, suggested, accepted, duplicates;
+	private long estimates, costs;
+	private long time, maxTime;
+	private int peak;
+	
+	
+	/**
+	 * Adds a sample to the {@code AStarStatistics}.
+	 * 
+	 * @param s  a statistics sample
+	 */
+	public synchronized void add(AStarStatistics s)
+	{
+		searches += s.searches;
+		expanded += s.expanded;
+		suggested += s.suggested;
+		accepted += s.accepted;
+		duplicates += s.duplicates;
+		estimates += s.estimates;
+		costs += s.costs;
+		time += s.time;
+		
+		peak = peak < s.peak ? s.peak : peak;
+		maxTime = maxTime < s.maxTime ? s.maxTime : maxTime;
+	}
+	
+	/**
+	 * Resets the {@code AStarStatistics}.
+	 */
+	public synchronized void reset()
+	{
+		searches = 0;
+		expanded = 0;
+		suggested = 0;
+		accepted = 0;
+		duplicates = 0;
+		estimates = 0;
+		costs = 0;
+		maxTime = 0;
+		time = 0;
+		peak = 0;
+	}
+	
+	
+	/**
+	 * Returns the number of recorded searches.
+	 * 
+	 * @return  a search count
+	 */
+	public synchronized long Searches()
+	{
+		return searches;
+	}
+	
+	/**
+	 * Returns the number of expanded nodes.
+	 * 
+	 * @return  an expansion count
+	 */
+	public synchronized long Expanded()
+	{
+		return expanded;
+	}
+	
+	/**
+	 * Returns the number of suggested paths.
+	 * 
+	 * @return  a suggestion count
+	 */
+	public synchronized long Suggested()
+	{
+		return suggested;
+	}
+	
+	/**
+	 * Returns the number of accepted paths.
+	 * These are suggestions which were either new,
+	 * or cheaper than the known path to their tail.
+	 * 
+	 * @return  an acceptance count
+	 */
+	public synchronized long Accepted()
+	{
+		return accepted;
+	}
+	
+	/**
+	 * Returns the number of duplicate pushes.
+	 * These are accepted paths whose tail
+	 * was already in the open list.
+	 * 
+	 * @return  a duplicate count
+	 */
+	public synchronized long Duplicates()
+	{
+		return duplicates;
+	}
+	
+	/**
+	 * Returns the number of estimate calls.
+	 * 
+	 * @return  an estimate count
+	 */
+	public synchronized long Estimates()
+	{
+		return estimates;
+	}
+	
+	/**
+	 * Returns the number of cost calls.
+	 * 
+	 * @return  a cost count
+	 */
+	public synchronized long Costs()
+	{
+		return costs;
+	}
+	
+	/**
+	 * Returns the peak size of the open list.
+	 * 
+	 * @return  an open node count
+	 */
+	public synchronized int Peak()
+	{
+		return peak;
+	}
+	
+	/**
+	 * Returns the total search time.
+	 * This only counts the time spent in pulses,
+	 * not the time between them.
+	 * 
+	 * @return  a time in nanoseconds
+	 */
+	public synchronized long Time()
+	{
+		return time;
+	}
+	
+	/**
+	 * Returns the longest search time.
+	 * 
+	 * @return  a time in nanoseconds
+	 */
+	public synchronized long MaxTime()
+	{
+		return maxTime;
+	}
+	
+	
+	@Override
+	public synchronized String toString()
+	{
+		return "searches=" + searches
+			+ ", expanded=" + expanded
+			+ ", suggested=" + suggested
+			+ ", accepted=" + accepted
+			+ ", duplicates=" + duplicates
+			+ ", estimates=" + estimates
+			+ ", costs=" + costs
+			+ ", peak=" + peak
+			+ ", time=" + time
+			+ ", maxTime=" + maxTime;
+	}
+	
+	
+	void onSearch(long t)
+	{
+		searches++;
+		time += t;
+		maxTime = maxTime < t ? t : maxTime;
+	}
+	
+	void onSuggest(boolean acc, boolean dup)
+	{
+		suggested++;
+		if(acc) accepted++;
+		if(dup) duplicates++;
+	}
+	
+	void onQueue(int size)
+	{
+		peak = peak < size ? size : peak;
+	}
+	
+	void onExpand()
+	{
+		expanded++;
+	}
+	
+	void onEstimate()
+	{
+		estimates++;
+	}
+	
+	void onCost()
+	{
+		costs++;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,257 @@
+package waffles.utils.intel.graphs.path;
+
+import waffles.utils.intel.graphs.Path;
+import waffles.utils.intel.utilities.cost.Heuristic;
+import waffles.utils.phys.utilities.events.stepped.SteppedEvent;
+import waffles.utils.sets.keymaps.delegate.JHashMap;
+import waffles.utils.tools.primitives.Floats;
+
+/**
+ * The {@code BiAStarSearch} algorithm computes an optimal path by searching from both of its ends.
+ * A forward frontier grows from the source through the neighbours of its {@code Heuristic}, while
+ * a backward frontier grows from the target through its predecessors. Whenever the frontiers touch,
+ * the cheapest connection is remembered. The search finishes once the lowest score in either
+ * frontier can no longer improve on that connection, after which both halves are spliced
+ * into a single {@code Path}. Like {@code AStarSearch}, every pulse expands one node,
+ * taken from whichever frontier is currently the smallest.
+ * As a {@code Path.Finder}, it runs the whole search at once.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @see <a href="https://en.wikipedia.org/wiki/Bidirectional_search">Bidirectional search</a>
+ * @param <O>  an object type
+ * @see SteppedEvent
+ * @see Path
+ */
+public class BiAStarSearch<O> extends SteppedEvent implements Path.Finder<O>
+{
+	private Heuristic<O> heur;
+	private O source, target;
+	
+	private AStarQueue<O> fQueue, bQueue;
+	private JHashMap<O, AStarNode<O>> fNodes, bNodes;
+	
+	private float best;
+	private Path<O> path;
+	private O meet;
+	
+	/**
+	 * Creates a new {@code BiAStarSearch}.
+	 * 
+	 * @param b  a beat time
+	 * @param h  a path heuristic
+	 * 
+	 * 
+	 * @see Heuristic
+	 */
+	public BiAStarSearch(long b, Heuristic<O> h)
+	{
+		super(b);
+		heur = h;
+	}
+	
+	/**
+	 * Starts the {@code BiAStarSearch} algorithm.
+	 * 
+	 * @param src  a source object
+	 * @param tgt  a target object
+	 */
+	public void start(O src, O tgt)
+	{
+		fQueue = new AStarQueue<>();
+		bQueue = new AStarQueue<>();
+		fNodes = new JHashMap<>();
+		bNodes = new JHashMap<>();
+		
+		best = Floats.MAX_VALUE;
+		source = src;
+		target = tgt;
+		meet = null;
+		path = null;
+		
+		// The forward path pays for its source...
+		suggest(new Path<>(null, src, heur.cost(src)), heur.cost(src), true);
+		// ...while the backward path starts for free.
+		suggest(new Path<>(null, tgt, 0f), 0f, false);
+		
+		run();
+	}
+	
+	/**
+	 * Returns the current optimal path.
+	 * 
+	 * @return  a result path
+	 * 
+	 * 
+	 * @see Path
+	 */
+	public Path<O> Path()
+	{
+		return path;
+	}
+	
+	
+	@Override
+	public Path<O> connect(O src, O tgt)
+	{
+		start(src, tgt);
+		return Path();
+	}
+	
+	@Override
+	public void onPulse(long beat)
+	{
+		// If neither frontier can improve the best connection...
+		if(best <= score(fQueue) || best <= score(bQueue))
+		{
+			// Finish the search.
+			path = splice();
+			pause(); return;
+		}
+		
+		// Otherwise, expand the smallest frontier.
+		if(fQueue.Count() <= bQueue.Count())
+			expandForward();
+		else
+			expandBackward();
+	}
+	
+	
+	private void expandForward()
+	{
+		AStarNode<O> node = fQueue.pop();
+		node.close();
+		
+		Path<O> prev = node.Path();
+		for(O next : heur.neighbours(prev.Tail()))
+		{
+			// Connect the path with the neighbour.
+			float step = heur.cost(next);
+			Path<O> pNew = new Path<>(prev, next, step);
+			suggest(pNew, node.Cost() + step, true);
+		}
+	}
+	
+	private void expandBackward()
+	{
+		AStarNode<O> node = bQueue.pop();
+		node.close();
+		
+		Path<O> prev = node.Path();
+		// Entering the tail costs the same from any predecessor.
+		float step = heur.cost(prev.Tail());
+		float cNew = node.Cost() + step;
+		for(O next : heur.predecessors(prev.Tail()))
+		{
+			// Connect the path with the predecessor.
+			Path<O> pNew = new Path<>(prev, next, step);
+			suggest(pNew, cNew, false);
+		}
+	}
+	
+	private void suggest(Path<O> p, float cNew, boolean isForward)
+	{
+		JHashMap<O, AStarNode<O>> nodes = isForward ? fNodes : bNodes;
+		AStarQueue<O> queue = isForward ? fQueue : bQueue;
+		
+		O tail = p.Tail();
+		AStarNode<O> node = nodes.get(tail);
+		// If the tail is unexplored...
+		if(node == null)
+		{
+			// Compute the score of the path.
+			float sNew = cNew + estimate(tail, isForward);
+			
+			// Add a new node to the queue.
+			node = new AStarNode<>(p, cNew, sNew);
+			nodes.put(tail, node);
+			queue.push(node);
+		}
+		// If the new cost is better...
+		else if(cNew < node.Cost())
+		{
+			// Reuse the estimate of the tail.
+			float sNew = node.Score() - node.Cost() + cNew;
+			
+			// Update the node in the queue.
+			node.update(p, cNew, sNew);
+			queue.push(node);
+		}
+		else
+		{
+			return;
+		}
+		
+		
+		// Check if the frontiers connect.
+		JHashMap<O, AStarNode<O>> other = isForward ? bNodes : fNodes;
+		AStarNode<O> opp = other.get(tail);
+		if(opp != null)
+		{
+			float total = cNew + opp.Cost();
+			if(total < best)
+			{
+				best = total;
+				meet = tail;
+			}
+		}
+	}
+	
+	private float estimate(O tgt, boolean isForward)
+	{
+		// Estimate the cost to the target...
+		if(isForward)
+		{
+			return heur.estimate(tgt, target);
+		}
+		
+		// ...or the cost from the source.
+		return heur.cost(source) + heur.estimate(source, tgt);
+	}
+	
+	private float score(AStarQueue<O> queue)
+	{
+		AStarNode<O> node = queue.peek();
+		if(node == null)
+		{
+			return Floats.MAX_VALUE;
+		}
+		
+		return node.Score();
+	}
+	
+	private Path<O> splice()
+	{
+		// If the frontiers never connected...
+		if(meet == null)
+		{
+			// No path exists.
+			return null;
+		}
+		
+		Path<O> fwd = fNodes.get(meet).Path();
+		Path<O> bwd = bNodes.get(meet).Path();
+		
+		// Collect the backward half...
+		Object[] tail = new Object[bwd.Length()];
+		for(int i = tail.length - 1; i >= 0; i--)
+		{
+			tail[i] = bwd.Tail();
+			bwd = bwd.Parent();
+		}
+		
+		// ...and append it in reverse.
+		Path<O> result = fwd;
+		for(int i = tail.length - 2; i >= 0; i--)
+		{
+			@SuppressWarnings("unchecked")
+			O next = (O) tail[i];
+			result = new Path<>(result, next, heur.cost(next));
+		}
+		
+		return result;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,323 @@
+package waffles.utils.intel.graphs.path;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A {@code CSRGraph} stores a finite directed graph of integer nodes as compressed sparse rows.
+ * The neighbours of node {@code i} are listed between offsets {@code i} and {@code i + 1} of
+ * the targets, in forward and reverse direction, and every node carries the cost of
+ * entering it. All arrays are kept in primitive buffers, which are either wrapped
+ * around arrays or mapped directly from a file without copying, so a graph of
+ * millions of nodes loads instantly and stays outside of the heap. Files are
+ * written in little-endian order, so reading them is free of byte swaps on
+ * the most common platforms.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @see CSRHeuristic
+ * @see IntBuffer
+ */
+public class CSRGraph
+{
+	private static final int MAGIC = 0x43535232;
+	
+	
+	/**
+	 * Loads a {@code CSRGraph} from a file.
+	 * The file is memory-mapped, and its contents are never
+	 * copied. Its edges are validated, so a corrupt file
+	 * is rejected here rather than during a search.
+	 * 
+	 * @param file  a source file
+	 * @return  a csr graph, or {@code null} if invalid
+	 * 
+	 * 
+	 * @see File
+	 */
+	public static CSRGraph load(File file)
+	{
+		try(RandomAccessFile raf = new RandomAccessFile(file, "r"))
+		{
+			FileChannel channel = raf.getChannel();
+			ByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			buf.order(ByteOrder.LITTLE_ENDIAN);
+			if(buf.getInt() != MAGIC)
+			{
+				return null;
+			}
+			
+			int n = buf.getInt();
+			int m = buf.getInt();
+			if(n < 0 || m < 0)
+			{
+				return null;
+			}
+			
+			// If the file is too short...
+			if(buf.remaining() < 4L * (3L * n + 2L * m + 2L))
+			{
+				return null;
+			}
+			
+			CSRGraph graph = new CSRGraph();
+			graph.fOffsets = ints(buf, n + 1);
+			graph.fTargets = ints(buf, m);
+			graph.bOffsets = ints(buf, n + 1);
+			graph.bTargets = ints(buf, m);
+			graph.weights = floats(buf, n);
+			
+			// If the edges are corrupt...
+			if(!isValid(graph.fOffsets, graph.fTargets, n, m)
+			|| !isValid(graph.bOffsets, graph.bTargets, n, m))
+			{
+				return null;
+			}
+			
+			return graph;
+		}
+		catch(IOException | RuntimeException e)
+		{
+			return null;
+		}
+	}
+	
+	private static boolean isValid(IntBuffer offsets, IntBuffer targets, int n, int m)
+	{
+		if(offsets.get(0) != 0 || offsets.get(n) != m)
+		{
+			return false;
+		}
+		
+		for(int i = 0; i < n; i++)
+		{
+			if(offsets.get(i + 1) < offsets.get(i))
+			{
+				return false;
+			}
+		}
+		
+		for(int e = 0; e < m; e++)
+		{
+			int j = targets.get(e);
+			if(j < 0 || n <= j)
+			{
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	private static FloatBuffer floats(ByteBuffer buf, int len)
+	{
+		FloatBuffer view = buf.slice().order(buf.order()).asFloatBuffer();
+		buf.position(buf.position() + 4 * len);
+		view.limit(len);
+		return view;
+	}
+	
+	private static IntBuffer ints(ByteBuffer buf, int len)
+	{
+		IntBuffer view = buf.slice().order(buf.order()).asIntBuffer();
+		buf.position(buf.position() + 4 * len);
+		view.limit(len);
+		return view;
+	}
+	
+	
+	private FloatBuffer weights;
+	private IntBuffer fOffsets, fTargets;
+	private IntBuffer bOffsets, bTargets;
+	
+	/**
+	 * Creates a new {@code CSRGraph}.
+	 * The reverse edges are derived
+	 * from the forward edges.
+	 * 
+	 * @param offsets  an offset array
+	 * @param targets  a target array
+	 * @param costs    a cost array
+	 */
+	public CSRGraph(int[] offsets, int[] targets, float[] costs)
+	{
+		int n = costs.length;
+		int m = offsets[n];
+		
+		// Count the reverse edges.
+		int[] rOffsets = new int[n + 1];
+		for(int e = 0; e < m; e++)
+		{
+			rOffsets[targets[e] + 1]++;
+		}
+		
+		for(int i = 0; i < n; i++)
+		{
+			rOffsets[i + 1] += rOffsets[i];
+		}
+		
+		// Fill in the reverse edges.
+		int[] fill = new int[n];
+		int[] rTargets = new int[m];
+		for(int i = 0; i < n; i++)
+		{
+			for(int e = offsets[i]; e < offsets[i + 1]; e++)
+			{
+				int j = targets[e];
+				rTargets[rOffsets[j] + fill[j]++] = i;
+			}
+		}
+		
+		fOffsets = IntBuffer.wrap(offsets);
+		fTargets = IntBuffer.wrap(targets);
+		bOffsets = IntBuffer.wrap(rOffsets);
+		bTargets = IntBuffer.wrap(rTargets);
+		weights = FloatBuffer.wrap(costs);
+	}
+	
+	/**
+	 * Creates a new {@code CSRGraph}.
+	 * 
+	 * @param g  a graph index
+	 * 
+	 * 
+	 * @see GraphIndex
+	 */
+	public CSRGraph(GraphIndex<?> g)
+	{
+		float[] costs = new float[g.Count()];
+		for(int i = 0; i < costs.length; i++)
+		{
+			costs[i] = g.cost(i);
+		}
+		
+		fOffsets = IntBuffer.wrap(g.Offsets(false));
+		fTargets = IntBuffer.wrap(g.Targets(false));
+		bOffsets = IntBuffer.wrap(g.Offsets(true));
+		bTargets = IntBuffer.wrap(g.Targets(true));
+		weights = FloatBuffer.wrap(costs);
+	}
+	
+	private CSRGraph()
+	{
+		// NOT APPLICABLE
+	}
+	
+	
+	/**
+	 * Saves the {@code CSRGraph} to a file.
+	 * The file is written through a memory map,
+	 * without buffering the graph on the heap.
+	 * 
+	 * @param file  a target file
+	 * @return  {@code true} if the file was written
+	 * 
+	 * 
+	 * @see File
+	 */
+	public boolean save(File file)
+	{
+		int n = Count();
+		int m = Edges();
+		long size = 4L * (3L + 3L * n + 2L * m + 2L);
+		
+		try(RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.setLength(size);
+			FileChannel channel = raf.getChannel();
+			ByteBuffer buf = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+			buf.order(ByteOrder.LITTLE_ENDIAN);
+			buf.putInt(MAGIC).putInt(n).putInt(m);
+			
+			put(buf, fOffsets, n + 1);
+			put(buf, fTargets, m);
+			put(buf, bOffsets, n + 1);
+			put(buf, bTargets, m);
+			for(int i = 0; i < n; i++)
+			{
+				buf.putFloat(weights.get(i));
+			}
+			
+			return true;
+		}
+		catch(IOException | RuntimeException e)
+		{
+			return false;
+		}
+	}
+	
+	/**
+	 * Returns an edge offset of the {@code CSRGraph}.
+	 * The neighbours of node {@code i} are stored between
+	 * offsets {@code i} and {@code i + 1} of the targets.
+	 * 
+	 * @param i    a node index
+	 * @param rev  {@code true} for reverse edges
+	 * @return  an edge offset
+	 */
+	public int offset(int i, boolean rev)
+	{
+		return rev ? bOffsets.get(i) : fOffsets.get(i);
+	}
+	
+	/**
+	 * Returns an edge target of the {@code CSRGraph}.
+	 * 
+	 * @param e    an edge offset
+	 * @param rev  {@code true} for reverse edges
+	 * @return  a node index
+	 */
+	public int target(int e, boolean rev)
+	{
+		return rev ? bTargets.get(e) : fTargets.get(e);
+	}
+	
+	/**
+	 * Returns the cost of a node in the {@code CSRGraph}.
+	 * 
+	 * @param i  a node index
+	 * @return  a node cost
+	 */
+	public float cost(int i)
+	{
+		return weights.get(i);
+	}
+	
+	/**
+	 * Returns the edge count of the {@code CSRGraph}.
+	 * 
+	 * @return  an edge count
+	 */
+	public int Edges()
+	{
+		return fTargets.limit();
+	}
+	
+	/**
+	 * Returns the size of the {@code CSRGraph}.
+	 * 
+	 * @return  a node count
+	 */
+	public int Count()
+	{
+		return weights.limit();
+	}
+	
+	
+	private void put(ByteBuffer buf, IntBuffer src, int len)
+	{
+		for(int i = 0; i < len; i++)
+		{
+			buf.putInt(src.get(i));
+		}
+	}
+}
\ No newline at end of file
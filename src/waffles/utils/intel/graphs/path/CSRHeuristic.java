@@ -0,0 +1,180 @@
+package waffles.utils.intel.graphs.path;
+
+import java.util.Iterator;
+
+import waffles.utils.intel.utilities.cost.Heuristic;
+
+/**
+ * A {@code CSRHeuristic} adapts a {@code CSRGraph} to the {@code Heuristic} interface.
+ * Every node index is boxed only once, the first time it is visited, so searches
+ * run on the graph without allocating a new {@code Integer} on every step.
+ * Estimates are delegated to a {@code CSRHeuristic.Estimator}, which
+ * defaults to zero, turning every search into Dijkstra's algorithm.
+ * Since the graph is immutable, the heuristic is concurrent.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @see Heuristic
+ * @see CSRGraph
+ */
+public class CSRHeuristic implements Heuristic<Integer>
+{
+	/**
+	 * A {@code CSRHeuristic.Estimator} estimates the cost between two node indices.
+	 * 
+	 * @author Waffles
+	 * @since 18 Oct 2026
+	 * @version 1.0
+	 */
+	@FunctionalInterface
+	public static interface Estimator
+	{
+		/**
+		 * Returns a cost estimate between nodes.
+		 * 
+		 * @param src  a source index
+		 * @param tgt  a target index
+		 * @return  a cost estimate
+		 */
+		public abstract float estimate(int src, int tgt);
+	}
+	
+	private class Edges implements Iterable<Integer>
+	{
+		private boolean rev;
+		private int start, end;
+		
+		public Edges(int i, boolean r)
+		{
+			start = graph.offset(i, r);
+			end = graph.offset(i + 1, r);
+			rev = r;
+		}
+		
+		
+		@Override
+		public Iterator<Integer> iterator()
+		{
+			return new Iterator<>()
+			{
+				private int edge = start;
+				
+				@Override
+				public boolean hasNext()
+				{
+					return edge < end;
+				}
+				
+				@Override
+				public Integer next()
+				{
+					return get(graph.target(edge++, rev));
+				}
+			};
+		}
+	}
+	
+	
+	private Integer[] ids;
+	private CSRGraph graph;
+	private Estimator est;
+	
+	/**
+	 * Creates a new {@code CSRHeuristic}.
+	 * 
+	 * @param g  a csr graph
+	 * @param e  a cost estimator
+	 * 
+	 * 
+	 * @see CSRGraph
+	 * @see Estimator
+	 */
+	public CSRHeuristic(CSRGraph g, Estimator e)
+	{
+		ids = new Integer[g.Count()];
+		graph = g;
+		est = e;
+	}
+	
+	/**
+	 * Creates a new {@code CSRHeuristic}.
+	 * Its estimates are always zero.
+	 * 
+	 * @param g  a csr graph
+	 * 
+	 * 
+	 * @see CSRGraph
+	 */
+	public CSRHeuristic(CSRGraph g)
+	{
+		this(g, (s, t) -> 0f);
+	}
+	
+	
+	/**
+	 * Returns the boxed index of a node.
+	 * The same instance is returned every time.
+	 * 
+	 * @param i  a node index
+	 * @return  a boxed index
+	 */
+	public Integer get(int i)
+	{
+		// Racing threads box equal values.
+		Integer id = ids[i];
+		if(id == null)
+		{
+			id = i;
+			ids[i] = id;
+		}
+		
+		return id;
+	}
+	
+	/**
+	 * Returns the graph of the {@code CSRHeuristic}.
+	 * 
+	 * @return  a csr graph
+	 * 
+	 * 
+	 * @see CSRGraph
+	 */
+	public CSRGraph Graph()
+	{
+		return graph;
+	}
+	
+	
+	@Override
+	public Iterable<Integer> neighbours(Integer tgt)
+	{
+		return new Edges(tgt, false);
+	}
+	
+	@Override
+	public Iterable<Integer> predecessors(Integer tgt)
+	{
+		return new Edges(tgt, true);
+	}
+	
+	@Override
+	public float estimate(Integer src, Integer tgt)
+	{
+		return est.estimate(src, tgt);
+	}
+	
+	@Override
+	public float cost(Integer tgt)
+	{
+		return graph.cost(tgt);
+	}
+	
+	@Override
+	public boolean isConcurrent()
+	{
+		return true;
+	}
+}
\ No newline at end of file
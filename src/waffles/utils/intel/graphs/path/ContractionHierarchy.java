@@ -0,0 +1,455 @@
+package waffles.utils.intel.graphs.path;
+
+/**
+ * A {@code ContractionHierarchy} preprocesses a static graph for very fast shortest path queries.
+ * Every object is contracted in order of importance, and whenever the only shortest path between
+ * two of its neighbours runs through it, a shortcut edge is added between them. The resulting
+ * hierarchy is stored as two upward graphs in compressed sparse rows, where each shortcut
+ * remembers the object it bypasses so that paths can be unpacked afterwards. The hierarchy
+ * itself is read-only, and queries are answered by a {@code ContractionSearch}.
+ * Steps are weighted by the cost of the object they enter.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <O>  an object type
+ * @see <a href="https://en.wikipedia.org/wiki/Contraction_hierarchies">Contraction hierarchies</a>
+ * @see ContractionSearch
+ * @see GraphIndex
+ */
+public class ContractionHierarchy<O>
+{
+	private static final int SETTLE_LIMIT = 256;
+	
+	
+	private static class Edges
+	{
+		private int size;
+		private int[] targets, middles;
+		private float[] weights;
+		
+		public Edges()
+		{
+			targets = new int[4];
+			middles = new int[4];
+			weights = new float[4];
+		}
+		
+		public boolean add(int tgt, float wgt, int mid)
+		{
+			for(int i = 0; i < size; i++)
+			{
+				// If the edge already exists...
+				if(targets[i] == tgt)
+				{
+					// ...keep the cheapest one.
+					if(wgt < weights[i])
+					{
+						weights[i] = wgt;
+						middles[i] = mid;
+					}
+					
+					return false;
+				}
+			}
+			
+			if(size == targets.length)
+			{
+				targets = copy(targets, 2 * size);
+				middles = copy(middles, 2 * size);
+				float[] wCopy = new float[2 * size];
+				System.arraycopy(weights, 0, wCopy, 0, size);
+				weights = wCopy;
+			}
+			
+			targets[size] = tgt;
+			weights[size] = wgt;
+			middles[size] = mid;
+			size++;
+			return true;
+		}
+		
+		private static int[] copy(int[] src, int size)
+		{
+			int[] copy = new int[size];
+			System.arraycopy(src, 0, copy, 0, src.length);
+			return copy;
+		}
+	}
+	
+	
+	private int[] ranks;
+	private GraphIndex<O> graph;
+	
+	private int[] fOffsets, fTargets, fMiddles;
+	private int[] bOffsets, bTargets, bMiddles;
+	private float[] fWeights, bWeights;
+	
+	// Preprocessing state.
+	private Edges[] outs, ins;
+	private boolean[] isContracted;
+	private int[] deleted, stamps;
+	private float[] dists;
+	private IndexQueue queue;
+	private int stamp;
+	
+	/**
+	 * Creates a new {@code ContractionHierarchy}.
+	 * 
+	 * @param g  a graph index
+	 * 
+	 * 
+	 * @see GraphIndex
+	 */
+	public ContractionHierarchy(GraphIndex<O> g)
+	{
+		int n = g.Count();
+		
+		graph = g;
+		ranks = new int[n];
+		outs = new Edges[n];
+		ins = new Edges[n];
+		for(int i = 0; i < n; i++)
+		{
+			outs[i] = new Edges();
+			ins[i] = new Edges();
+		}
+		
+		// Weigh every edge by the object it enters.
+		int[] offsets = g.Offsets(false);
+		int[] targets = g.Targets(false);
+		for(int u = 0; u < n; u++)
+		{
+			for(int e = offsets[u]; e < offsets[u + 1]; e++)
+			{
+				int v = targets[e];
+				if(u != v)
+				{
+					outs[u].add(v, g.cost(v), -1);
+					ins[v].add(u, g.cost(v), -1);
+				}
+			}
+		}
+		
+		contract(n);
+		build(n);
+		
+		// Discard the preprocessing state.
+		outs = null; ins = null;
+		isContracted = null;
+		deleted = null; stamps = null;
+		dists = null; queue = null;
+	}
+	
+	
+	/**
+	 * Returns the middle of an edge in the {@code ContractionHierarchy}.
+	 * 
+	 * @param u  a source index
+	 * @param v  a target index
+	 * @return  a middle index, or -1 if the edge is original
+	 */
+	public int middle(int u, int v)
+	{
+		// Upward edges are stored at their source.
+		if(ranks[u] < ranks[v])
+		{
+			for(int e = fOffsets[u]; e < fOffsets[u + 1]; e++)
+			{
+				if(fTargets[e] == v)
+				{
+					return fMiddles[e];
+				}
+			}
+		}
+		// Downward edges are stored at their target.
+		else
+		{
+			for(int e = bOffsets[v]; e < bOffsets[v + 1]; e++)
+			{
+				if(bTargets[e] == u)
+				{
+					return bMiddles[e];
+				}
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the rank of an index in the {@code ContractionHierarchy}.
+	 * 
+	 * @param i  an object index
+	 * @return  a contraction rank
+	 */
+	public int rank(int i)
+	{
+		return ranks[i];
+	}
+	
+	/**
+	 * Returns the edge offsets of the {@code ContractionHierarchy}.
+	 * The forward graph holds every edge towards a higher rank,
+	 * the reverse graph every edge from a higher rank.
+	 * 
+	 * @param rev  {@code true} for the reverse graph
+	 * @return  an offset array
+	 */
+	public int[] Offsets(boolean rev)
+	{
+		return rev ? bOffsets : fOffsets;
+	}
+	
+	/**
+	 * Returns the edge targets of the {@code ContractionHierarchy}.
+	 * 
+	 * @param rev  {@code true} for the reverse graph
+	 * @return  a target array
+	 */
+	public int[] Targets(boolean rev)
+	{
+		return rev ? bTargets : fTargets;
+	}
+	
+	/**
+	 * Returns the edge weights of the {@code ContractionHierarchy}.
+	 * 
+	 * @param rev  {@code true} for the reverse graph
+	 * @return  a weight array
+	 */
+	public float[] Weights(boolean rev)
+	{
+		return rev ? bWeights : fWeights;
+	}
+	
+	/**
+	 * Returns the graph of the {@code ContractionHierarchy}.
+	 * 
+	 * @return  a graph index
+	 * 
+	 * 
+	 * @see GraphIndex
+	 */
+	public GraphIndex<O> Graph()
+	{
+		return graph;
+	}
+	
+	
+	private void contract(int n)
+	{
+		isContracted = new boolean[n];
+		deleted = new int[n];
+		stamps = new int[n];
+		dists = new float[n];
+		queue = new IndexQueue(n);
+		
+		IndexQueue order = new IndexQueue(n);
+		for(int v = 0; v < n; v++)
+		{
+			order.push(v, priority(v));
+		}
+		
+		int rank = 0;
+		while(!order.isEmpty())
+		{
+			int v = order.pop();
+			// If its priority has grown since...
+			float prio = priority(v);
+			if(!order.isEmpty() && order.Key() < prio)
+			{
+				// ...requeue it.
+				order.push(v, prio);
+				continue;
+			}
+			
+			shortcut(v, true);
+			isContracted[v] = true;
+			ranks[v] = rank++;
+			
+			for(int i = 0; i < outs[v].size; i++)
+			{
+				deleted[outs[v].targets[i]]++;
+			}
+			
+			for(int i = 0; i < ins[v].size; i++)
+			{
+				deleted[ins[v].targets[i]]++;
+			}
+		}
+	}
+	
+	private float priority(int v)
+	{
+		int edges = 0;
+		for(int i = 0; i < outs[v].size; i++)
+		{
+			if(!isContracted[outs[v].targets[i]])
+			{
+				edges++;
+			}
+		}
+		
+		for(int i = 0; i < ins[v].size; i++)
+		{
+			if(!isContracted[ins[v].targets[i]])
+			{
+				edges++;
+			}
+		}
+		
+		// Prefer objects which remove more edges than they add.
+		return shortcut(v, false) - edges + deleted[v];
+	}
+	
+	private int shortcut(int v, boolean add)
+	{
+		int count = 0;
+		Edges in = ins[v], out = outs[v];
+		for(int i = 0; i < in.size; i++)
+		{
+			int u = in.targets[i];
+			if(isContracted[u])
+			{
+				continue;
+			}
+			
+			// Find the longest path through the object.
+			float max = 0f;
+			for(int j = 0; j < out.size; j++)
+			{
+				int w = out.targets[j];
+				if(!isContracted[w] && w != u)
+				{
+					float via = in.weights[i] + out.weights[j];
+					max = max < via ? via : max;
+				}
+			}
+			
+			// Look for witnesses which avoid it.
+			witness(u, v, max);
+			for(int j = 0; j < out.size; j++)
+			{
+				int w = out.targets[j];
+				if(isContracted[w] || w == u)
+				{
+					continue;
+				}
+				
+				float via = in.weights[i] + out.weights[j];
+				// If no witness is as short...
+				if(stamps[w] != stamp || via < dists[w])
+				{
+					// ...a shortcut is needed.
+					count++;
+					if(add)
+					{
+						outs[u].add(w, via, v);
+						ins[w].add(u, via, v);
+					}
+				}
+			}
+		}
+		
+		return count;
+	}
+	
+	private void witness(int src, int skip, float max)
+	{
+		stamp++;
+		queue.clear();
+		
+		dists[src] = 0f;
+		stamps[src] = stamp;
+		queue.push(src, 0f);
+		
+		int settled = 0;
+		while(!queue.isEmpty() && settled++ < SETTLE_LIMIT)
+		{
+			// If the bound has been exceeded...
+			if(max < queue.Key())
+			{
+				// Finish the search.
+				return;
+			}
+			
+			int curr = queue.pop();
+			Edges out = outs[curr];
+			for(int i = 0; i < out.size; i++)
+			{
+				int next = out.targets[i];
+				if(next == skip || isContracted[next])
+				{
+					continue;
+				}
+				
+				float dist = dists[curr] + out.weights[i];
+				if(stamps[next] != stamp || dist < dists[next])
+				{
+					stamps[next] = stamp;
+					dists[next] = dist;
+					queue.push(next, dist);
+				}
+			}
+		}
+	}
+	
+	private void build(int n)
+	{
+		// Count the upward edges in both directions.
+		fOffsets = new int[n + 1];
+		bOffsets = new int[n + 1];
+		for(int u = 0; u < n; u++)
+		{
+			for(int i = 0; i < outs[u].size; i++)
+			{
+				int w = outs[u].targets[i];
+				if(ranks[u] < ranks[w])
+					fOffsets[u + 1]++;
+				else
+					bOffsets[w + 1]++;
+			}
+		}
+		
+		for(int i = 0; i < n; i++)
+		{
+			fOffsets[i + 1] += fOffsets[i];
+			bOffsets[i + 1] += bOffsets[i];
+		}
+		
+		int fCount = fOffsets[n];
+		int bCount = bOffsets[n];
+		fTargets = new int[fCount]; fMiddles = new int[fCount]; fWeights = new float[fCount];
+		bTargets = new int[bCount]; bMiddles = new int[bCount]; bWeights = new float[bCount];
+		
+		int[] fFill = new int[n];
+		int[] bFill = new int[n];
+		for(int u = 0; u < n; u++)
+		{
+			Edges out = outs[u];
+			for(int i = 0; i < out.size; i++)
+			{
+				int w = out.targets[i];
+				// Store upward edges at their source.
+				if(ranks[u] < ranks[w])
+				{
+					int e = fOffsets[u] + fFill[u]++;
+					fTargets[e] = w;
+					fMiddles[e] = out.middles[i];
+					fWeights[e] = out.weights[i];
+				}
+				// Store downward edges at their target.
+				else
+				{
+					int e = bOffsets[w] + bFill[w]++;
+					bTargets[e] = u;
+					bMiddles[e] = out.middles[i];
+					bWeights[e] = out.weights[i];
+				}
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,231 @@
+package waffles.utils.intel.graphs.path;
+
+import waffles.utils.intel.graphs.Path;
+import waffles.utils.tools.primitives.Floats;
+
+/**
+ * The {@code ContractionSearch} algorithm answers path queries on a {@code ContractionHierarchy}.
+ * It runs a bidirectional Dijkstra search which only follows edges towards objects of higher rank,
+ * so each side settles a tiny fraction of the graph. Once the cheapest meeting point is known,
+ * every shortcut on the path is unpacked recursively into the edges it replaced. All search
+ * state is kept in primitive arrays reused through generation stamps, so a single search
+ * should be created for each thread that queries the same hierarchy.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <O>  an object type
+ * @see ContractionHierarchy
+ * @see Path
+ */
+public class ContractionSearch<O> implements Path.Finder<O>
+{
+	private ContractionHierarchy<O> hier;
+	
+	private int stamp;
+	private int[] fSeen, bSeen;
+	private int[] fParents, bParents;
+	private float[] fDists, bDists;
+	private IndexQueue fQueue, bQueue;
+	private int[] stack;
+	
+	/**
+	 * Creates a new {@code ContractionSearch}.
+	 * 
+	 * @param h  a contraction hierarchy
+	 * 
+	 * 
+	 * @see ContractionHierarchy
+	 */
+	public ContractionSearch(ContractionHierarchy<O> h)
+	{
+		int n = h.Graph().Count();
+		
+		hier = h;
+		fSeen = new int[n];
+		bSeen = new int[n];
+		fDists = new float[n];
+		bDists = new float[n];
+		fParents = new int[n];
+		bParents = new int[n];
+		fQueue = new IndexQueue(n);
+		bQueue = new IndexQueue(n);
+		stack = new int[16];
+	}
+	
+	
+	@Override
+	public Path<O> connect(O src, O tgt)
+	{
+		GraphIndex<O> graph = hier.Graph();
+		int s = graph.index(src);
+		int t = graph.index(tgt);
+		if(s < 0 || t < 0)
+		{
+			return null;
+		}
+		
+		reset();
+		visit(s, -1, 0f, false);
+		visit(t, -1, 0f, true);
+		
+		int meet = -1;
+		float best = Floats.MAX_VALUE;
+		while(!fQueue.isEmpty() || !bQueue.isEmpty())
+		{
+			// If neither side can improve the path...
+			if(best <= fQueue.Key() && best <= bQueue.Key())
+			{
+				// Finish the search.
+				break;
+			}
+			
+			// Expand the side with the lowest key.
+			boolean rev = bQueue.Key() < fQueue.Key();
+			int curr = (rev ? bQueue : fQueue).pop();
+			
+			// If the other side has reached it...
+			int[] oSeen = rev ? fSeen : bSeen;
+			if(oSeen[curr] == stamp)
+			{
+				float dist = fDists[curr] + bDists[curr];
+				if(dist < best)
+				{
+					best = dist;
+					meet = curr;
+				}
+			}
+			
+			expand(curr, rev);
+		}
+		
+		if(meet < 0)
+		{
+			return null;
+		}
+		
+		return unpack(meet);
+	}
+	
+	
+	private void reset()
+	{
+		stamp++;
+		// If the stamps overflow...
+		if(stamp == Integer.MAX_VALUE)
+		{
+			// ...clear all of them.
+			for(int i = 0; i < fSeen.length; i++)
+			{
+				fSeen[i] = 0;
+				bSeen[i] = 0;
+			}
+			
+			stamp = 1;
+		}
+		
+		fQueue.clear();
+		bQueue.clear();
+	}
+	
+	private void expand(int curr, boolean rev)
+	{
+		int[] offsets = hier.Offsets(rev);
+		int[] targets = hier.Targets(rev);
+		float[] weights = hier.Weights(rev);
+		float[] dists = rev ? bDists : fDists;
+		int[] seen = rev ? bSeen : fSeen;
+		
+		for(int e = offsets[curr]; e < offsets[curr + 1]; e++)
+		{
+			int next = targets[e];
+			float dist = dists[curr] + weights[e];
+			if(seen[next] != stamp || dist < dists[next])
+			{
+				visit(next, curr, dist, rev);
+			}
+		}
+	}
+	
+	private void visit(int node, int parent, float dist, boolean rev)
+	{
+		if(rev)
+		{
+			bSeen[node] = stamp;
+			bDists[node] = dist;
+			bParents[node] = parent;
+			bQueue.push(node, dist);
+		}
+		else
+		{
+			fSeen[node] = stamp;
+			fDists[node] = dist;
+			fParents[node] = parent;
+			fQueue.push(node, dist);
+		}
+	}
+	
+	private Path<O> unpack(int meet)
+	{
+		// Collect the hierarchy path in reverse.
+		int size = 0;
+		for(int i = meet; i >= 0; i = fParents[i])
+		{
+			size++;
+		}
+		
+		int[] nodes = new int[size];
+		for(int i = meet, j = size - 1; i >= 0; i = fParents[i], j--)
+		{
+			nodes[j] = i;
+		}
+		
+		GraphIndex<O> graph = hier.Graph();
+		Path<O> path = new Path<>(null, graph.node(nodes[0]), graph.cost(nodes[0]));
+		for(int j = 1; j < size; j++)
+		{
+			path = unpack(path, nodes[j - 1], nodes[j]);
+		}
+		
+		// Continue down towards the target.
+		for(int i = meet; bParents[i] >= 0; i = bParents[i])
+		{
+			path = unpack(path, i, bParents[i]);
+		}
+		
+		return path;
+	}
+	
+	private Path<O> unpack(Path<O> path, int u, int v)
+	{
+		GraphIndex<O> graph = hier.Graph();
+		
+		int top = 0;
+		stack[top++] = v;
+		// Replace each shortcut with its halves.
+		while(top > 0)
+		{
+			int w = stack[top - 1];
+			int mid = hier.middle(u, w);
+			if(mid < 0)
+			{
+				path = new Path<>(path, graph.node(w), graph.cost(w));
+				u = w; top--;
+				continue;
+			}
+			
+			if(top == stack.length)
+			{
+				int[] copy = new int[2 * top];
+				System.arraycopy(stack, 0, copy, 0, top);
+				stack = copy;
+			}
+			
+			stack[top++] = mid;
+		}
+		
+		return path;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,533 @@
+package waffles.utils.intel.graphs.path;
+
+import waffles.utils.geom.spaces.index.TiledSpace2D;
+import waffles.utils.geom.spaces.index.tiles.Tiled2D;
+import waffles.utils.intel.graphs.Path;
+import waffles.utils.intel.utilities.Cost;
+import waffles.utils.tools.primitives.Floats;
+
+/**
+ * The {@code CooperativeSearch} algorithm moves many agents across a {@code TiledSpace2D} while avoiding collisions.
+ * It implements windowed hierarchical cooperative A*, which plans each agent in priority order through
+ * space and time, avoiding every tile and tick already claimed by agents of higher priority in a
+ * shared {@code ReservationTable}. Agents may also wait in place, and may never swap tiles with
+ * each other. Each plan only looks a fixed window of ticks ahead, after which the remaining
+ * distance is read from a {@code TiledFlowField} towards the target of the agent. A plan which
+ * cannot cover the window ends in a tile where the agent can safely wait until the window
+ * is over. If no such plan exists, the agent is promoted to the highest priority and
+ * all agents are planned again, up to a fixed number of times. Agents which still cannot
+ * be planned safely wait in place, and are reported to be in conflict. Every half window,
+ * all agents are replanned, so the cost of each tick grows linearly with the number
+ * of agents. Flow fields are cached
+ * per target, and can be invalidated by notifying the search of cost changes
+ * as a {@code Cost.Listener}.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <T>  a tile type
+ * @see <a href="https://www.davidsilver.uk/wp-content/uploads/2020/03/coop-path-AIIDE.pdf">Cooperative pathfinding</a>
+ * @see ReservationTable
+ * @see TiledFlowField
+ * @see Tiled2D
+ */
+public class CooperativeSearch<T extends Tiled2D> implements Cost.Listener<T>
+{
+	private static final int[] DROWS = { 0, -1,  0, +1,  0, -1, -1, +1, +1 };
+	private static final int[] DCOLS = { 0,  0, +1,  0, -1, -1, +1, +1, -1 };
+	private static final int STATE_LIMIT = 1 << 14;
+	private static final int RESTART_LIMIT = 4;
+	
+	
+	private int tick, window;
+	private TiledLayout<T> layout;
+	private TiledSpace2D<T> space;
+	private int rows, cols;
+	
+	private FlowFieldCache<T> fields;
+	private ReservationTable table;
+	
+	// Agent state.
+	private int count, start;
+	private int[] tiles, targets, order;
+	private boolean[] conflicts;
+	private int[][] plans;
+	
+	// Window search state.
+	private IndexQueue queue;
+	private ReservationTable states;
+	private int[] sTiles, sTicks, sParents;
+	private float[] sCosts;
+	
+	/**
+	 * Creates a new {@code CooperativeSearch}.
+	 * 
+	 * @param s    a tiled space
+	 * @param lyt  a tiled layout
+	 * @param w    a window size
+	 * 
+	 * 
+	 * @see TiledLayout
+	 * @see TiledSpace2D
+	 */
+	public CooperativeSearch(TiledSpace2D<T> s, TiledLayout<T> lyt, int w)
+	{
+		TiledSearch<T> flood = new TiledSearch<>(s, lyt);
+		fields = new FlowFieldCache<>(t -> new TiledFlowField<>(flood, t), 64);
+		table = new ReservationTable(256);
+		
+		rows = s.Dimensions()[0];
+		cols = s.Dimensions()[1];
+		window = w < 2 ? 2 : w;
+		layout = lyt;
+		space = s;
+		
+		tiles = new int[8];
+		order = new int[8];
+		targets = new int[8];
+		conflicts = new boolean[8];
+		plans = new int[8][];
+		
+		queue = new IndexQueue(STATE_LIMIT);
+		states = new ReservationTable(STATE_LIMIT);
+		sTiles = new int[STATE_LIMIT];
+		sTicks = new int[STATE_LIMIT];
+		sParents = new int[STATE_LIMIT];
+		sCosts = new float[STATE_LIMIT];
+	}
+	
+	
+	/**
+	 * Adds an agent to the {@code CooperativeSearch}.
+	 * Agents are planned in the order they were added,
+	 * so earlier agents have a higher priority, unless
+	 * an agent is promoted to resolve a conflict.
+	 * 
+	 * @param src  a source tile
+	 * @param tgt  a target tile
+	 * @return  an agent index
+	 */
+	public int add(T src, T tgt)
+	{
+		if(count == tiles.length)
+		{
+			int[] tCopy = new int[2 * count];
+			int[] oCopy = new int[2 * count];
+			int[] gCopy = new int[2 * count];
+			boolean[] cCopy = new boolean[2 * count];
+			int[][] pCopy = new int[2 * count][];
+			System.arraycopy(tiles, 0, tCopy, 0, count);
+			System.arraycopy(order, 0, oCopy, 0, count);
+			System.arraycopy(targets, 0, gCopy, 0, count);
+			System.arraycopy(conflicts, 0, cCopy, 0, count);
+			System.arraycopy(plans, 0, pCopy, 0, count);
+			tiles = tCopy; order = oCopy; targets = gCopy;
+			conflicts = cCopy; plans = pCopy;
+		}
+		
+		order[count] = count;
+		tiles[count] = index(src);
+		targets[count] = index(tgt);
+		plans[count] = new int[window + 1];
+		
+		// Plan the agent on the next tick.
+		start = -window;
+		return count++;
+	}
+	
+	/**
+	 * Changes the target of an agent.
+	 * 
+	 * @param agent  an agent index
+	 * @param tgt    a target tile
+	 */
+	public void setTarget(int agent, T tgt)
+	{
+		targets[agent] = index(tgt);
+		start = -window;
+	}
+	
+	/**
+	 * Advances the {@code CooperativeSearch} by one tick.
+	 * Every agent moves to the next tile in its plan,
+	 * after replanning all agents if needed.
+	 */
+	public void step()
+	{
+		// Replan every half window.
+		if(start + window / 2 <= tick)
+		{
+			replan();
+		}
+		
+		tick++;
+		for(int a = 0; a < count; a++)
+		{
+			tiles[a] = plans[a][tick - start];
+		}
+	}
+	
+	/**
+	 * Checks if an agent is in conflict.
+	 * This is the case if no safe plan was found
+	 * in the current window, so that the agent
+	 * may collide with another one.
+	 * 
+	 * @param agent  an agent index
+	 * @return  {@code true} if in conflict
+	 */
+	public boolean hasConflict(int agent)
+	{
+		return conflicts[agent];
+	}
+	
+	/**
+	 * Returns the position of an agent.
+	 * 
+	 * @param agent  an agent index
+	 * @return  a current tile
+	 */
+	public T Position(int agent)
+	{
+		return tile(tiles[agent]);
+	}
+	
+	/**
+	 * Returns the plan of an agent.
+	 * This lists its tile for every remaining
+	 * tick in the current window, and tracks
+	 * the cost the search charged for it.
+	 * 
+	 * @param agent  an agent index
+	 * @return  a planned path
+	 * 
+	 * 
+	 * @see Path
+	 */
+	public Path<T> Plan(int agent)
+	{
+		Path<T> path = new Path<>();
+		if(start < 0)
+		{
+			return path;
+		}
+		
+		int[] plan = plans[agent];
+		for(int t = tick - start; t <= window; t++)
+		{
+			// The current tile is entered for free.
+			float step = t == tick - start ? 0f : step(plan[t - 1], plan[t], targets[agent]);
+			path = new Path<>(path, tile(plan[t]), step);
+		}
+		
+		return path;
+	}
+	
+	/**
+	 * Returns the current tick of the {@code CooperativeSearch}.
+	 * 
+	 * @return  a time tick
+	 */
+	public int Tick()
+	{
+		return tick;
+	}
+	
+	/**
+	 * Returns the size of the {@code CooperativeSearch}.
+	 * 
+	 * @return  an agent count
+	 */
+	public int Count()
+	{
+		return count;
+	}
+	
+	
+	@Override
+	public void onChange(T tgt)
+	{
+		fields.onChange(tgt);
+	}
+	
+	
+	private void replan()
+	{
+		start = tick;
+		// Each conflict promotes one agent.
+		for(int i = 0; i < RESTART_LIMIT; i++)
+		{
+			int failed = plan(false);
+			if(failed < 0)
+			{
+				return;
+			}
+			
+			promote(failed);
+		}
+		
+		// Keep the best effort of the last order.
+		plan(true);
+	}
+	
+	private int plan(boolean force)
+	{
+		// Drop all reservations of the old window.
+		table.clear();
+		for(int a = 0; a < count; a++)
+		{
+			table.reserve(tiles[a], tick, a);
+		}
+		
+		int failed = -1;
+		for(int i = 0; i < count; i++)
+		{
+			int a = order[i];
+			int[] plan = plans[a];
+			conflicts[a] = false;
+			
+			TiledFlowField<T> field = (TiledFlowField<T>) fields.Field(tile(targets[a]));
+			int last = search(a, field);
+			// If the agent can move safely...
+			if(0 <= last)
+			{
+				// ...fill in the plan from the last state.
+				int end = sTicks[last];
+				for(int s = last; s >= 0; s = sParents[s])
+				{
+					plan[sTicks[s]] = sTiles[s];
+				}
+				
+				// Wait at the end of a partial plan.
+				for(int t = end + 1; t <= window; t++)
+				{
+					plan[t] = plan[end];
+				}
+				
+				if(reserve(a))
+				{
+					continue;
+				}
+			}
+			
+			if(!force) return a;
+			failed = failed < 0 ? a : failed;
+			
+			// Otherwise, the agent can only wait in place.
+			for(int t = 0; t <= window; t++)
+			{
+				plan[t] = tiles[a];
+				if(!table.reserve(plan[t], tick + t, a))
+				{
+					conflicts[a] = true;
+				}
+			}
+		}
+		
+		return failed;
+	}
+	
+	private boolean reserve(int agent)
+	{
+		int[] plan = plans[agent];
+		for(int t = 1; t <= window; t++)
+		{
+			// If the plan conflicts with another agent...
+			if(!table.reserve(plan[t], tick + t, agent))
+			{
+				// ...undo its reservations.
+				for(int u = 1; u < t; u++)
+				{
+					table.release(plan[u], tick + u);
+				}
+				
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	private void promote(int agent)
+	{
+		// Move the agent to the front of the order.
+		int i = 0;
+		while(order[i] != agent)
+		{
+			i++;
+		}
+		
+		System.arraycopy(order, 0, order, 1, i);
+		order[0] = agent;
+	}
+	
+	private boolean canRest(int agent, int tile, int dt)
+	{
+		// The agent waits there until the window ends.
+		for(int t = dt + 1; t <= window; t++)
+		{
+			int owner = table.get(tile, tick + t);
+			if(0 <= owner && owner != agent)
+			{
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	private int search(int agent, TiledFlowField<T> field)
+	{
+		int src = tiles[agent];
+		int tgt = targets[agent];
+		
+		queue.clear();
+		states.clear();
+		
+		int size = 1;
+		sTiles[0] = src;
+		sTicks[0] = 0;
+		sParents[0] = -1;
+		sCosts[0] = 0f;
+		states.reserve(src, 0, 0);
+		queue.push(0, field.Distance(src));
+		
+		int best = -1;
+		float wait = layout.MinimumCost();
+		while(!queue.isEmpty())
+		{
+			int curr = queue.pop();
+			int dt = sTicks[curr];
+			// If the window has been covered...
+			if(dt == window)
+			{
+				// Finish the search.
+				return curr;
+			}
+			
+			// Remember the deepest state to rest in.
+			if(best < 0 || sTicks[best] < dt)
+			{
+				if(canRest(agent, sTiles[curr], dt))
+				{
+					best = curr;
+				}
+			}
+			
+			int r = sTiles[curr] / cols;
+			int c = sTiles[curr] % cols;
+			int now = tick + dt;
+			
+			int dirs = layout.hasDiagonals() ? 9 : 5;
+			for(int d = 0; d < dirs; d++)
+			{
+				int nr = r + DROWS[d];
+				int nc = c + DCOLS[d];
+				if(!isOpen(nr, nc))
+				{
+					continue;
+				}
+				
+				float step = d == 0 ? 0f : 1f;
+				// If the step is diagonal...
+				if(5 <= d)
+				{
+					// ...it cannot cut a blocked corner.
+					if(!isOpen(r, nc) || !isOpen(nr, c))
+					{
+						continue;
+					}
+					
+					step = TiledFinder.DIAGONAL;
+				}
+				
+				int next = nr * cols + nc;
+				// The tile cannot be claimed by another agent...
+				int owner = table.get(next, now + 1);
+				if(0 <= owner && owner != agent)
+				{
+					continue;
+				}
+				
+				// ...nor can the agents swap tiles.
+				owner = table.get(next, now);
+				if(0 <= owner && owner != agent && d != 0)
+				{
+					if(table.get(sTiles[curr], now + 1) == owner)
+					{
+						continue;
+					}
+				}
+				
+				float cost = sCosts[curr];
+				if(d != 0)
+					cost += step * layout.cost(tile(next));
+				else if(next != tgt)
+					cost += wait;
+				
+				// Find the state of the tile at the next tick.
+				int s = states.get(next, dt + 1);
+				if(s < 0)
+				{
+					// If no more states fit...
+					if(size == STATE_LIMIT)
+					{
+						continue;
+					}
+					
+					s = size++;
+					sTiles[s] = next;
+					sTicks[s] = dt + 1;
+					states.reserve(next, dt + 1, s);
+				}
+				else if(sCosts[s] <= cost)
+				{
+					continue;
+				}
+				
+				sCosts[s] = cost;
+				sParents[s] = curr;
+				queue.push(s, cost + field.Distance(next));
+			}
+		}
+		
+		return best;
+	}
+	
+	private float step(int src, int next, int tgt)
+	{
+		// Waiting is free only at the target.
+		if(src == next)
+		{
+			return next == tgt ? 0f : layout.MinimumCost();
+		}
+		
+		float cost = layout.cost(tile(next));
+		// If the step is diagonal...
+		if(src / cols != next / cols && src % cols != next % cols)
+		{
+			return TiledFinder.DIAGONAL * cost;
+		}
+		
+		return cost;
+	}
+	
+	private boolean isOpen(int r, int c)
+	{
+		if(r < 0 || rows <= r) return false;
+		if(c < 0 || cols <= c) return false;
+		return !layout.isBlocked(tile(r * cols + c));
+	}
+	
+	private int index(T tile)
+	{
+		return tile.Row() * cols + tile.Column();
+	}
+	
+	private T tile(int i)
+	{
+		return space.get(i / cols, i % cols);
+	}
+}
\ No newline at end of file
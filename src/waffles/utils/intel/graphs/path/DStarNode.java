@@ -0,0 +1,119 @@
+package waffles.utils.intel.graphs.path;
+
+/**
+ * A {@code DStarNode} defines a single node in the search state of a {@code DStarSearch}.
+ * It stores the cost-to-goal of an object along with its one-step lookahead value.
+ * The score and cost of the underlying {@code AStarNode} hold the two parts of
+ * its priority key, which are compared in lexicographic order.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <O>  an object type
+ * @see AStarNode
+ */
+public class DStarNode<O> extends AStarNode<O>
+{
+	private O object;
+	private float g, rhs;
+	
+	/**
+	 * Creates a new {@code DStarNode}.
+	 * 
+	 * @param obj  a node object
+	 * @param inf  an infinite cost
+	 */
+	public DStarNode(O obj, float inf)
+	{
+		super(null, inf, inf);
+		object = obj;
+		rhs = inf;
+		g = inf;
+	}
+	
+	
+	/**
+	 * Changes the key of the {@code DStarNode}.
+	 * 
+	 * @param k1  a primary key
+	 * @param k2  a secondary key
+	 */
+	public void setKey(float k1, float k2)
+	{
+		update(null, k2, k1);
+	}
+	
+	/**
+	 * Changes the cost of the {@code DStarNode}.
+	 * 
+	 * @param val  a cost-to-goal
+	 */
+	public void setG(float val)
+	{
+		g = val;
+	}
+	
+	/**
+	 * Changes the lookahead of the {@code DStarNode}.
+	 * 
+	 * @param val  a lookahead cost
+	 */
+	public void setRHS(float val)
+	{
+		rhs = val;
+	}
+	
+	/**
+	 * Returns the object of the {@code DStarNode}.
+	 * 
+	 * @return  a node object
+	 */
+	public O Object()
+	{
+		return object;
+	}
+	
+	/**
+	 * Returns the cost of the {@code DStarNode}.
+	 * This is the current cost-to-goal
+	 * of its object.
+	 * 
+	 * @return  a cost-to-goal
+	 */
+	public float G()
+	{
+		return g;
+	}
+	
+	/**
+	 * Returns the lookahead of the {@code DStarNode}.
+	 * This is the best cost-to-goal through
+	 * any of its neighbours.
+	 * 
+	 * @return  a lookahead cost
+	 */
+	public float RHS()
+	{
+		return rhs;
+	}
+	
+	
+	@Override
+	public int compareTo(AStarNode<O> n)
+	{
+		// Order keys lexicographically.
+		if(Score() != n.Score())
+		{
+			return Score() < n.Score() ? -1 : 1;
+		}
+		
+		if(Cost() != n.Cost())
+		{
+			return Cost() < n.Cost() ? -1 : 1;
+		}
+		
+		return 0;
+	}
+}
\ No newline at end of file
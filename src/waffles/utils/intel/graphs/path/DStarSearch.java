@@ -0,0 +1,348 @@
+package waffles.utils.intel.graphs.path;
+
+import waffles.utils.intel.graphs.Path;
+import waffles.utils.intel.utilities.Cost;
+import waffles.utils.intel.utilities.cost.Heuristic;
+import waffles.utils.sets.keymaps.delegate.JHashMap;
+import waffles.utils.tools.primitives.Floats;
+
+/**
+ * The {@code DStarSearch} algorithm maintains an optimal path while costs change and its source moves.
+ * It implements D* Lite, which searches backward from the target and keeps its search state between
+ * queries. Whenever the cost of an object changes, the {@code DStarSearch} is notified as a
+ * {@code Cost.Listener}, and only the predecessors of that object are updated. The next query
+ * then repairs the affected part of the search tree, rather than searching from scratch.
+ * As the agent moves along the path, {@link #move(Object)} shifts the source without
+ * invalidating the existing search state.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <O>  an object type
+ * @see <a href="http://idm-lab.org/bib/abstracts/papers/aaai02b.pdf">D* Lite</a>
+ * @see Cost.Listener
+ * @see Heuristic
+ * @see Path
+ */
+public class DStarSearch<O> implements Path.Finder<O>, Cost.Listener<O>
+{
+	private static final float INFINITY = Floats.MAX_VALUE;
+	
+	
+	private int count;
+	private float km;
+	private O source, target, last;
+	private Heuristic<O> heur;
+	
+	private AStarQueue<O> queue;
+	private JHashMap<O, DStarNode<O>> nodes;
+	private boolean isConsistent;
+	
+	/**
+	 * Creates a new {@code DStarSearch}.
+	 * 
+	 * @param h  a path heuristic
+	 * 
+	 * 
+	 * @see Heuristic
+	 */
+	public DStarSearch(Heuristic<O> h)
+	{
+		heur = h;
+	}
+	
+	/**
+	 * Starts the {@code DStarSearch} algorithm.
+	 * This discards all existing search state.
+	 * 
+	 * @param src  a source object
+	 * @param tgt  a target object
+	 */
+	public void start(O src, O tgt)
+	{
+		queue = new AStarQueue<>();
+		nodes = new JHashMap<>();
+		
+		km = 0f;
+		count = 0;
+		source = src;
+		target = tgt;
+		last = src;
+		
+		DStarNode<O> goal = node(tgt);
+		goal.setRHS(0f);
+		push(goal);
+		
+		isConsistent = false;
+	}
+	
+	/**
+	 * Moves the source of the {@code DStarSearch}.
+	 * 
+	 * @param src  a new source object
+	 */
+	public void move(O src)
+	{
+		if(!src.equals(source))
+		{
+			source = src;
+			isConsistent = false;
+		}
+	}
+	
+	/**
+	 * Returns the current optimal path.
+	 * This repairs the search state if any
+	 * changes occurred since the last query.
+	 * 
+	 * @return  a result path
+	 * 
+	 * 
+	 * @see Path
+	 */
+	public Path<O> Path()
+	{
+		if(nodes == null)
+		{
+			return null;
+		}
+		
+		compute();
+		// If the target cannot be reached...
+		if(node(source).G() >= INFINITY)
+		{
+			return null;
+		}
+		
+		// Otherwise, follow the cheapest neighbours.
+		Path<O> path = new Path<>(null, source, heur.cost(source));
+		O curr = source;
+		while(!curr.equals(target))
+		{
+			// An optimal path never revisits a node.
+			if(count <= path.Length())
+			{
+				return null;
+			}
+			
+			O best = null;
+			float bStep = 0f;
+			float bCost = INFINITY;
+			for(O next : heur.neighbours(curr))
+			{
+				float step = heur.cost(next);
+				float cost = step + g(next);
+				if(cost < bCost)
+				{
+					bCost = cost;
+					bStep = step;
+					best = next;
+				}
+			}
+			
+			if(best == null)
+			{
+				return null;
+			}
+			
+			path = new Path<>(path, best, bStep);
+			curr = best;
+		}
+		
+		return path;
+	}
+	
+	
+	@Override
+	public Path<O> connect(O src, O tgt)
+	{
+		// Reuse the search state for the same target.
+		if(nodes != null && tgt.equals(target))
+			move(src);
+		else
+			start(src, tgt);
+		
+		return Path();
+	}
+	
+	@Override
+	public void onChange(O tgt)
+	{
+		if(nodes == null)
+		{
+			return;
+		}
+		
+		// All edges into the object have changed.
+		for(O prev : heur.predecessors(tgt))
+		{
+			DStarNode<O> node = nodes.get(prev);
+			if(node != null)
+			{
+				update(node);
+			}
+		}
+		
+		isConsistent = false;
+	}
+	
+	
+	private void compute()
+	{
+		if(isConsistent)
+		{
+			return;
+		}
+		
+		// Account for the moved source.
+		km += heur.estimate(last, source);
+		last = source;
+		
+		DStarNode<O> start = node(source);
+		while(true)
+		{
+			DStarNode<O> top = (DStarNode<O>) queue.peek();
+			if(top == null)
+			{
+				break;
+			}
+			
+			// If the source is locally consistent and settled...
+			float k1 = key1(start), k2 = key2(start);
+			if(start.RHS() == start.G() && !precedes(top.Score(), top.Cost(), k1, k2))
+			{
+				// Finish the search.
+				break;
+			}
+			
+			queue.pop();
+			// If the key of the node is outdated...
+			float n1 = key1(top), n2 = key2(top);
+			if(precedes(top.Score(), top.Cost(), n1, n2))
+			{
+				// ...reinsert it with its new key.
+				top.setKey(n1, n2);
+				queue.push(top);
+			}
+			// If the node is overconsistent...
+			else if(top.G() > top.RHS())
+			{
+				// ...settle it.
+				top.setG(top.RHS());
+				for(O prev : heur.predecessors(top.Object()))
+				{
+					update(node(prev));
+				}
+			}
+			// If the node is underconsistent...
+			else
+			{
+				// ...raise it and its predecessors.
+				top.setG(INFINITY);
+				update(top);
+				for(O prev : heur.predecessors(top.Object()))
+				{
+					update(node(prev));
+				}
+			}
+		}
+		
+		isConsistent = true;
+	}
+	
+	private void update(DStarNode<O> node)
+	{
+		O obj = node.Object();
+		// Recompute the lookahead of the node.
+		if(!obj.equals(target))
+		{
+			float rhs = INFINITY;
+			for(O next : heur.neighbours(obj))
+			{
+				float cost = heur.cost(next) + g(next);
+				if(cost < rhs)
+				{
+					rhs = cost;
+				}
+			}
+			
+			node.setRHS(rhs);
+		}
+		
+		// Requeue it if it is inconsistent.
+		if(node.G() != node.RHS())
+		{
+			push(node);
+		}
+		else if(0 <= node.Index())
+		{
+			remove(node);
+		}
+	}
+	
+	private void push(DStarNode<O> node)
+	{
+		node.setKey(key1(node), key2(node));
+		queue.push(node);
+	}
+	
+	private void remove(DStarNode<O> node)
+	{
+		// Move the node to the front, then pop it.
+		node.setKey(Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY);
+		queue.push(node);
+		queue.pop();
+	}
+	
+	private DStarNode<O> node(O obj)
+	{
+		DStarNode<O> node = nodes.get(obj);
+		if(node == null)
+		{
+			node = new DStarNode<>(obj, INFINITY);
+			nodes.put(obj, node);
+			count++;
+		}
+		
+		return node;
+	}
+	
+	private float g(O obj)
+	{
+		DStarNode<O> node = nodes.get(obj);
+		if(node == null)
+		{
+			return INFINITY;
+		}
+		
+		return node.G();
+	}
+	
+	private float key1(DStarNode<O> node)
+	{
+		float min = key2(node);
+		if(min >= INFINITY)
+		{
+			return INFINITY;
+		}
+		
+		return min + heur.estimate(source, node.Object()) + km;
+	}
+	
+	private float key2(DStarNode<O> node)
+	{
+		return node.G() < node.RHS() ? node.G() : node.RHS();
+	}
+	
+	private static boolean precedes(float a1, float a2, float b1, float b2)
+	{
+		if(a1 != b1)
+		{
+			return a1 < b1;
+		}
+		
+		return a2 < b2;
+	}
+}
\ No newline at end of file
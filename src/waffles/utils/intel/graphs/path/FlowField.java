@@ -0,0 +1,131 @@
+package waffles.utils.intel.graphs.path;
+
+import waffles.utils.intel.graphs.Path;
+import waffles.utils.tools.primitives.Floats;
+
+/**
+ * A {@code FlowField} stores the optimal step towards a single target from every reachable object.
+ * It is computed once by a reverse search from the target, after which any number of agents
+ * can read their next step in constant time instead of running their own search.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <O>  an object type
+ * @see FlowFieldCache
+ */
+public interface FlowField<O>
+{
+	/**
+	 * A {@code FlowField.Builder} computes a {@code FlowField} towards a target.
+	 * 
+	 * @author Waffles
+	 * @since 18 Oct 2026
+	 * @version 1.0
+	 * 
+	 * 
+	 * @param <O>  an object type
+	 */
+	@FunctionalInterface
+	public static interface Builder<O>
+	{
+		/**
+		 * Builds a {@code FlowField} towards a target.
+		 * 
+		 * @param tgt  a target object
+		 * @return  a flow field
+		 */
+		public abstract FlowField<O> build(O tgt);
+	}
+	
+	
+	/**
+	 * Checks if the {@code FlowField} depends on an object.
+	 * If this returns {@code false}, a change in the
+	 * cost of that object cannot affect the field.
+	 * 
+	 * @param obj  an object to check
+	 * @return  {@code true} if the field depends on it
+	 */
+	public abstract boolean dependsOn(O obj);
+	
+	/**
+	 * Returns the distance of an object in the {@code FlowField}.
+	 * This is the cost of the optimal path to the target,
+	 * excluding the cost of the object itself.
+	 * 
+	 * @param src  a source object
+	 * @return  a path cost, or {@code Floats.MAX_VALUE} if unreachable
+	 */
+	public abstract float Distance(O src);
+	
+	/**
+	 * Returns the next step in the {@code FlowField}.
+	 * 
+	 * @param src  a source object
+	 * @return  a next object, or {@code null} if none
+	 */
+	public abstract O next(O src);
+	
+	/**
+	 * Returns the target of the {@code FlowField}.
+	 * 
+	 * @return  a target object
+	 */
+	public abstract O Target();
+	
+	/**
+	 * Returns the size of the {@code FlowField}.
+	 * This is the number of objects which
+	 * can reach the target.
+	 * 
+	 * @return  an object count
+	 */
+	public abstract int Count();
+	
+	
+	/**
+	 * Traces the path from an object in the {@code FlowField}.
+	 * If the field is broken by a cost change,
+	 * this returns {@code null} instead. The path
+	 * tracks its cost, which like the distance
+	 * excludes the cost of the source.
+	 * 
+	 * @param src  a source object
+	 * @return  a path to the target
+	 * 
+	 * 
+	 * @see Path
+	 */
+	public default Path<O> trace(O src)
+	{
+		// If the target cannot be reached...
+		if(Distance(src) >= Floats.MAX_VALUE)
+		{
+			return null;
+		}
+		
+		// Otherwise, follow the field.
+		O curr = src;
+		Path<O> path = new Path<>(null, src, 0f);
+		while(!curr.equals(Target()))
+		{
+			O prev = curr;
+			curr = next(curr);
+			// If the field is stale or cyclic...
+			if(curr == null || Count() < path.Length())
+			{
+				// ...the path cannot be traced.
+				return null;
+			}
+			
+			// Each step costs the distance it covers.
+			float step = Distance(prev) - Distance(curr);
+			path = new Path<>(path, curr, step);
+		}
+		
+		return path;
+	}
+}
\ No newline at end of file
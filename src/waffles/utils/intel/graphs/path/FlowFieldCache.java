@@ -0,0 +1,121 @@
+package waffles.utils.intel.graphs.path;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import waffles.utils.intel.graphs.Path;
+import waffles.utils.intel.utilities.Cost;
+
+/**
+ * A {@code FlowFieldCache} keeps a bounded set of {@code FlowField} objects, one per target.
+ * Fields are built on first request and evicted in least-recently-used order once the capacity
+ * is exceeded. As a {@code Cost.Listener}, it drops every field which depends on a changed
+ * object, so the field is recomputed the next time its target is requested. It can also
+ * be used directly as a {@code Path.Finder}, which traces the field of the target.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <O>  an object type
+ * @see Cost.Listener
+ * @see FlowField
+ * @see Path
+ */
+public class FlowFieldCache<O> implements Path.Finder<O>, Cost.Listener<O>
+{
+	private int capacity;
+	private FlowField.Builder<O> builder;
+	private LinkedHashMap<O, FlowField<O>> fields;
+	
+	/**
+	 * Creates a new {@code FlowFieldCache}.
+	 * 
+	 * @param b    a field builder
+	 * @param cap  a field capacity
+	 * 
+	 * 
+	 * @see FlowField
+	 */
+	public FlowFieldCache(FlowField.Builder<O> b, int cap)
+	{
+		fields = new LinkedHashMap<>(16, 0.75f, true);
+		capacity = cap;
+		builder = b;
+	}
+	
+	
+	/**
+	 * Returns the field of a target in the {@code FlowFieldCache}.
+	 * It is built if it is not cached yet.
+	 * 
+	 * @param tgt  a target object
+	 * @return  a flow field
+	 * 
+	 * 
+	 * @see FlowField
+	 */
+	public synchronized FlowField<O> Field(O tgt)
+	{
+		FlowField<O> field = fields.get(tgt);
+		if(field == null)
+		{
+			field = builder.build(tgt);
+			fields.put(tgt, field);
+			
+			// Evict the least recently used fields.
+			Iterator<O> iter = fields.keySet().iterator();
+			while(capacity < fields.size() && iter.hasNext())
+			{
+				iter.next();
+				iter.remove();
+			}
+		}
+		
+		return field;
+	}
+	
+	/**
+	 * Returns the next step towards a target.
+	 * 
+	 * @param src  a source object
+	 * @param tgt  a target object
+	 * @return  a next object, or {@code null} if none
+	 */
+	public O next(O src, O tgt)
+	{
+		return Field(tgt).next(src);
+	}
+	
+	/**
+	 * Returns the size of the {@code FlowFieldCache}.
+	 * 
+	 * @return  a field count
+	 */
+	public synchronized int Count()
+	{
+		return fields.size();
+	}
+	
+	/**
+	 * Clears the {@code FlowFieldCache}.
+	 */
+	public synchronized void clear()
+	{
+		fields.clear();
+	}
+	
+	
+	@Override
+	public synchronized void onChange(O tgt)
+	{
+		fields.values().removeIf(f -> f.dependsOn(tgt));
+	}
+	
+	@Override
+	public Path<O> connect(O src, O tgt)
+	{
+		return Field(tgt).trace(src);
+	}
+}
\ No newline at end of file
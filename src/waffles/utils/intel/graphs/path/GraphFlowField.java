@@ -0,0 +1,160 @@
+package waffles.utils.intel.graphs.path;
+
+import waffles.utils.intel.utilities.cost.Heuristic;
+import waffles.utils.sets.keymaps.delegate.JHashMap;
+import waffles.utils.tools.primitives.Floats;
+
+/**
+ * A {@code GraphFlowField} computes a {@code FlowField} over any graph described by a {@code Heuristic}.
+ * It runs a single Dijkstra search backward from the target through the predecessors of every
+ * object, and stores the distance and optimal successor of each object it reaches.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <O>  an object type
+ * @see <a href="http://www.roguebasin.com/index.php/Dijkstra_Maps_Visualized">Dijkstra maps</a>
+ * @see FlowField
+ * @see Heuristic
+ */
+public class GraphFlowField<O> implements FlowField<O>
+{
+	private static class Entry<O> extends AStarNode<O>
+	{
+		private O object, next;
+		
+		public Entry(O obj, O nxt, float dist)
+		{
+			super(null, dist, dist);
+			object = obj;
+			next = nxt;
+		}
+	}
+	
+	
+	private int count;
+	private O target;
+	private Heuristic<O> heur;
+	private JHashMap<O, Entry<O>> entries;
+	
+	/**
+	 * Creates a new {@code GraphFlowField}.
+	 * 
+	 * @param h    a path heuristic
+	 * @param tgt  a target object
+	 * 
+	 * 
+	 * @see Heuristic
+	 */
+	public GraphFlowField(Heuristic<O> h, O tgt)
+	{
+		entries = new JHashMap<>();
+		target = tgt;
+		heur = h;
+		
+		AStarQueue<O> queue = new AStarQueue<>();
+		Entry<O> root = new Entry<>(tgt, null, 0f);
+		entries.put(tgt, root);
+		queue.push(root);
+		count = 1;
+		
+		while(!queue.isEmpty())
+		{
+			// Settle the closest object.
+			Entry<O> curr = (Entry<O>) queue.pop();
+			curr.close();
+			
+			// Every predecessor can step into it.
+			float dist = curr.Cost() + h.cost(curr.object);
+			for(O prev : h.predecessors(curr.object))
+			{
+				Entry<O> entry = entries.get(prev);
+				if(entry == null)
+				{
+					entry = new Entry<>(prev, curr.object, dist);
+					entries.put(prev, entry);
+					queue.push(entry);
+					count++;
+					continue;
+				}
+				
+				// If a shorter path was found...
+				if(!entry.isClosed() && dist < entry.Cost())
+				{
+					// ...update the open entry.
+					entry.update(null, dist, dist);
+					entry.next = curr.object;
+					queue.push(entry);
+				}
+			}
+		}
+	}
+	
+	
+	@Override
+	public boolean dependsOn(O obj)
+	{
+		if(entries.get(obj) != null)
+		{
+			return true;
+		}
+		
+		// An unreached object matters if it
+		// borders any object which was reached.
+		for(O next : heur.neighbours(obj))
+		{
+			if(entries.get(next) != null)
+			{
+				return true;
+			}
+		}
+		
+		for(O prev : heur.predecessors(obj))
+		{
+			if(entries.get(prev) != null)
+			{
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	@Override
+	public float Distance(O src)
+	{
+		Entry<O> entry = entries.get(src);
+		if(entry == null)
+		{
+			return Floats.MAX_VALUE;
+		}
+		
+		return entry.Cost();
+	}
+	
+	@Override
+	public O next(O src)
+	{
+		Entry<O> entry = entries.get(src);
+		if(entry == null)
+		{
+			return null;
+		}
+		
+		return entry.next;
+	}
+	
+	@Override
+	public O Target()
+	{
+		return target;
+	}
+	
+	@Override
+	public int Count()
+	{
+		return count;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,225 @@
+package waffles.utils.intel.graphs.path;
+
+import waffles.utils.intel.utilities.cost.Heuristic;
+import waffles.utils.sets.keymaps.delegate.JHashMap;
+import waffles.utils.tools.primitives.Floats;
+
+/**
+ * A {@code GraphIndex} assigns a flat index to every object of a finite graph described by a {@code Heuristic}.
+ * The neighbours of each object are stored as compressed sparse rows, both in forward and reverse
+ * direction, along with the cost of every object. This allows preprocessing algorithms to run
+ * on primitive arrays, instead of querying the heuristic over and over.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <O>  an object type
+ * @see Heuristic
+ */
+public class GraphIndex<O>
+{
+	private Object[] nodes;
+	private JHashMap<O, Integer> index;
+	
+	private float[] costs;
+	private int[] fOffsets, fTargets;
+	private int[] bOffsets, bTargets;
+	
+	/**
+	 * Creates a new {@code GraphIndex}.
+	 * Neighbours outside of the given
+	 * objects are ignored.
+	 * 
+	 * @param h    a path heuristic
+	 * @param set  a set of graph objects
+	 * 
+	 * 
+	 * @see Heuristic
+	 * @see Iterable
+	 */
+	public GraphIndex(Heuristic<O> h, Iterable<O> set)
+	{
+		index = new JHashMap<>();
+		
+		int count = 0;
+		for(O obj : set)
+		{
+			if(index.get(obj) == null)
+			{
+				index.put(obj, count++);
+			}
+		}
+		
+		nodes = new Object[count];
+		costs = new float[count];
+		for(O obj : set)
+		{
+			int i = index.get(obj);
+			costs[i] = h.cost(obj);
+			nodes[i] = obj;
+		}
+		
+		// Count the forward edges.
+		fOffsets = new int[count + 1];
+		bOffsets = new int[count + 1];
+		for(int i = 0; i < count; i++)
+		{
+			for(O next : h.neighbours(node(i)))
+			{
+				Integer j = index.get(next);
+				if(j != null)
+				{
+					fOffsets[i + 1]++;
+					bOffsets[j + 1]++;
+				}
+			}
+		}
+		
+		for(int i = 0; i < count; i++)
+		{
+			fOffsets[i + 1] += fOffsets[i];
+			bOffsets[i + 1] += bOffsets[i];
+		}
+		
+		// Fill in both directions.
+		fTargets = new int[fOffsets[count]];
+		bTargets = new int[bOffsets[count]];
+		int[] fFill = new int[count];
+		int[] bFill = new int[count];
+		for(int i = 0; i < count; i++)
+		{
+			for(O next : h.neighbours(node(i)))
+			{
+				Integer j = index.get(next);
+				if(j != null)
+				{
+					fTargets[fOffsets[i] + fFill[i]++] = j;
+					bTargets[bOffsets[j] + bFill[j]++] = i;
+				}
+			}
+		}
+	}
+	
+	
+	/**
+	 * Computes the distances from an index in the {@code GraphIndex}.
+	 * The distance to an object excludes the cost of the source,
+	 * and includes the cost of every other object on the path.
+	 * In reverse, the distances towards the index are computed.
+	 * This method can be called from several threads at once.
+	 * 
+	 * @param src  a source index
+	 * @param rev  {@code true} to follow reverse edges
+	 * @return  a distance array
+	 */
+	public float[] distances(int src, boolean rev)
+	{
+		int[] offsets = rev ? bOffsets : fOffsets;
+		int[] targets = rev ? bTargets : fTargets;
+		
+		float[] dists = new float[costs.length];
+		for(int i = 0; i < dists.length; i++)
+		{
+			dists[i] = Floats.MAX_VALUE;
+		}
+		
+		IndexQueue queue = new IndexQueue(costs.length);
+		queue.push(src, 0f);
+		dists[src] = 0f;
+		
+		while(!queue.isEmpty())
+		{
+			int curr = queue.pop();
+			for(int e = offsets[curr]; e < offsets[curr + 1]; e++)
+			{
+				int next = targets[e];
+				// Charge the object which the step enters.
+				float step = costs[rev ? curr : next];
+				float dist = dists[curr] + step;
+				if(dist < dists[next])
+				{
+					dists[next] = dist;
+					queue.push(next, dist);
+				}
+			}
+		}
+		
+		return dists;
+	}
+	
+	/**
+	 * Returns the index of an object.
+	 * 
+	 * @param obj  a graph object
+	 * @return  an object index, or -1 if absent
+	 */
+	public int index(O obj)
+	{
+		Integer i = index.get(obj);
+		if(i == null)
+		{
+			return -1;
+		}
+		
+		return i;
+	}
+	
+	/**
+	 * Returns the object of an index.
+	 * 
+	 * @param i  an object index
+	 * @return  a graph object
+	 */
+	@SuppressWarnings("unchecked")
+	public O node(int i)
+	{
+		return (O) nodes[i];
+	}
+	
+	/**
+	 * Returns the cost of an index.
+	 * 
+	 * @param i  an object index
+	 * @return  an object cost
+	 */
+	public float cost(int i)
+	{
+		return costs[i];
+	}
+	
+	/**
+	 * Returns the edge offsets of the {@code GraphIndex}.
+	 * The neighbours of index {@code i} are stored between
+	 * offsets {@code i} and {@code i + 1} of the targets.
+	 * 
+	 * @param rev  {@code true} for reverse edges
+	 * @return  an offset array
+	 */
+	public int[] Offsets(boolean rev)
+	{
+		return rev ? bOffsets : fOffsets;
+	}
+	
+	/**
+	 * Returns the edge targets of the {@code GraphIndex}.
+	 * 
+	 * @param rev  {@code true} for reverse edges
+	 * @return  a target array
+	 */
+	public int[] Targets(boolean rev)
+	{
+		return rev ? bTargets : fTargets;
+	}
+	
+	/**
+	 * Returns the size of the {@code GraphIndex}.
+	 * 
+	 * @return  an object count
+	 */
+	public int Count()
+	{
+		return costs.length;
+	}
+}
\ No newline at end of file
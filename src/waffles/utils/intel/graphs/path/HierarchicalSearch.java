@@ -0,0 +1,568 @@
+package waffles.utils.intel.graphs.path;
+
+import waffles.utils.geom.spaces.index.TiledSpace2D;
+import waffles.utils.geom.spaces.index.tiles.Tiled2D;
+import waffles.utils.intel.graphs.Path;
+import waffles.utils.tools.primitives.Floats;
+
+/**
+ * The {@code HierarchicalSearch} algorithm computes a near-optimal path on a large {@code TiledSpace2D}.
+ * The grid is split into square clusters of a fixed size. Along each border between two clusters,
+ * every open stretch of tiles yields entrance tiles on both sides, and the cost between entrances
+ * of the same cluster is precomputed with a bounded {@code TiledSearch}. A query first searches
+ * this abstract graph of entrances, and then refines each step of the abstract path with a
+ * low-level search bounded to a single cluster. Whenever tiles change, only the clusters
+ * containing them and their direct neighbours are rebuilt, right before the next query.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <T>  a tile type
+ * @see <a href="https://webdocs.cs.ualberta.ca/~mmueller/ps/hpastar.pdf">Near optimal hierarchical path-finding</a>
+ * @see TiledSearch
+ * @see Path
+ */
+public class HierarchicalSearch<T extends Tiled2D> implements Path.Finder<T>
+{
+	private static final int LONG_ENTRANCE = 6;
+	
+	private static class Cluster
+	{
+		private int[] tiles;
+		private float[] costs;
+		private int east, south, west, north;
+		private int base;
+	}
+	
+	
+	private int size;
+	private int rows, cols;
+	private int cRows, cCols;
+	private boolean[] dirty;
+	private boolean isDirty;
+	
+	private int[][] eBorders, sBorders;
+	private Cluster[] clusters;
+	private TiledSearch<T> search;
+	
+	private int stamp;
+	private int sNode, tNode;
+	private int[] seen, parents;
+	private float[] scores;
+	private IndexQueue queue;
+	
+	/**
+	 * Creates a new {@code HierarchicalSearch}.
+	 * The abstract graph is built immediately.
+	 * 
+	 * @param s    a tiled space
+	 * @param lyt  a tiled layout
+	 * @param sz   a cluster size
+	 * 
+	 * 
+	 * @see TiledLayout
+	 * @see TiledSpace2D
+	 */
+	public HierarchicalSearch(TiledSpace2D<T> s, TiledLayout<T> lyt, int sz)
+	{
+		search = new TiledSearch<>(s, lyt);
+		rows = search.Rows();
+		cols = search.Columns();
+		size = sz;
+		
+		cRows = (rows + size - 1) / size;
+		cCols = (cols + size - 1) / size;
+		
+		int count = cRows * cCols;
+		clusters = new Cluster[count];
+		eBorders = new int[count][];
+		sBorders = new int[count][];
+		dirty = new boolean[count];
+		for(int k = 0; k < count; k++)
+		{
+			clusters[k] = new Cluster();
+			dirty[k] = true;
+		}
+		
+		isDirty = true;
+		rebuild();
+	}
+	
+	
+	/**
+	 * Updates a tile in the {@code HierarchicalSearch}.
+	 * This should be called whenever the cost of a tile
+	 * changes, or if it becomes blocked or unblocked.
+	 * 
+	 * @param tile  a changed tile
+	 */
+	public void update(T tile)
+	{
+		update(tile.Row(), tile.Column());
+	}
+	
+	/**
+	 * Updates a tile in the {@code HierarchicalSearch}.
+	 * 
+	 * @param row  a tile row
+	 * @param col  a tile column
+	 */
+	public void update(int row, int col)
+	{
+		dirty[cluster(search.index(row, col))] = true;
+		isDirty = true;
+	}
+	
+	/**
+	 * Rebuilds all changed clusters of the {@code HierarchicalSearch}.
+	 * This happens automatically before every query.
+	 */
+	public void rebuild()
+	{
+		if(!isDirty)
+		{
+			return;
+		}
+		
+		// Discard all cached tile costs.
+		search.reset();
+		
+		// Recompute the borders of all changed clusters.
+		boolean[] touched = new boolean[clusters.length];
+		for(int k = 0; k < clusters.length; k++)
+		{
+			if(dirty[k])
+			{
+				int cr = k / cCols;
+				int cc = k % cCols;
+				
+				computeEast(k);
+				computeSouth(k);
+				if(0 < cc)
+					computeEast(k - 1);
+				if(0 < cr)
+					computeSouth(k - cCols);
+				
+				touched[k] = true;
+				if(0 < cc) touched[k - 1] = true;
+				if(0 < cr) touched[k - cCols] = true;
+				if(cc < cCols - 1) touched[k + 1] = true;
+				if(cr < cRows - 1) touched[k + cCols] = true;
+			}
+		}
+		
+		// Recompute the entrances of their neighbours.
+		int base = 0;
+		for(int k = 0; k < clusters.length; k++)
+		{
+			if(touched[k])
+			{
+				computeCluster(k);
+			}
+			
+			clusters[k].base = base;
+			base += clusters[k].tiles.length;
+			dirty[k] = false;
+		}
+		
+		// Resize the abstract search data.
+		sNode = base;
+		tNode = base + 1;
+		
+		int count = base + 2;
+		if(seen == null || seen.length < count)
+		{
+			queue = new IndexQueue(count);
+			parents = new int[count];
+			scores = new float[count];
+			seen = new int[count];
+			stamp = 0;
+		}
+		
+		search.clearBounds();
+		isDirty = false;
+	}
+	
+	
+	@Override
+	public Path<T> connect(T src, T tgt)
+	{
+		rebuild();
+		
+		int s = search.index(src.Row(), src.Column());
+		int t = search.index(tgt.Row(), tgt.Column());
+		
+		int ks = cluster(s);
+		int kt = cluster(t);
+		
+		// Connect the source to its cluster entrances.
+		float[] sCosts = flood(s, ks, false);
+		// Connect the target to its cluster entrances.
+		float[] tCosts = flood(t, kt, true);
+		
+		// Compute the direct cost within a single cluster.
+		float direct = Floats.MAX_VALUE;
+		if(ks == kt)
+		{
+			bound(ks);
+			search.setReversed(false);
+			if(search.search(s, t))
+			{
+				direct = search.Score(t);
+			}
+		}
+		
+		// Search the abstract graph.
+		int[] route = route(s, t, ks, kt, sCosts, tCosts, direct);
+		if(route == null)
+		{
+			search.clearBounds();
+			return null;
+		}
+		
+		// Refine it into a tile path.
+		Path<T> path = refine(route);
+		search.clearBounds();
+		return path;
+	}
+	
+	
+	private int cluster(int i)
+	{
+		int r = i / cols;
+		int c = i % cols;
+		return (r / size) * cCols + (c / size);
+	}
+	
+	private void bound(int k)
+	{
+		int r0 = (k / cCols) * size;
+		int c0 = (k % cCols) * size;
+		search.setBounds(r0, c0, r0 + size, c0 + size);
+	}
+	
+	private void computeEast(int k)
+	{
+		int cc = k % cCols;
+		if(cc == cCols - 1)
+		{
+			eBorders[k] = new int[0];
+			return;
+		}
+		
+		int r0 = (k / cCols) * size;
+		int r1 = r0 + size < rows ? r0 + size : rows;
+		int c = (cc + 1) * size - 1;
+		
+		eBorders[k] = computeBorder(r0, c, r1 - r0, 1, 0, 0, 1);
+	}
+	
+	private void computeSouth(int k)
+	{
+		int cr = k / cCols;
+		if(cr == cRows - 1)
+		{
+			sBorders[k] = new int[0];
+			return;
+		}
+		
+		int c0 = (k % cCols) * size;
+		int c1 = c0 + size < cols ? c0 + size : cols;
+		int r = (cr + 1) * size - 1;
+		
+		sBorders[k] = computeBorder(r, c0, c1 - c0, 0, 1, 1, 0);
+	}
+	
+	private int[] computeBorder(int r, int c, int len, int dr, int dc, int nr, int nc)
+	{
+		search.clearBounds();
+		int[] ents = new int[4 * len];
+		int count = 0, start = -1;
+		
+		// Scan along the border...
+		for(int i = 0; i <= len; i++)
+		{
+			boolean isOpen = false;
+			if(i < len)
+			{
+				int ri = r + i * dr;
+				int ci = c + i * dc;
+				isOpen = search.isOpen(ri, ci)
+					&& search.isOpen(ri + nr, ci + nc);
+			}
+			
+			// ...to find stretches of open tile pairs.
+			if(isOpen && start < 0)
+			{
+				start = i;
+			}
+			else if(!isOpen && 0 <= start)
+			{
+				int end = i - 1;
+				// Long stretches get an entrance on both ends...
+				if(end - start + 1 >= LONG_ENTRANCE)
+				{
+					count = addEntrance(ents, count, r + start * dr, c + start * dc, nr, nc);
+					count = addEntrance(ents, count, r + end * dr, c + end * dc, nr, nc);
+				}
+				// ...while short stretches get one in the middle.
+				else
+				{
+					int mid = (start + end) / 2;
+					count = addEntrance(ents, count, r + mid * dr, c + mid * dc, nr, nc);
+				}
+				
+				start = -1;
+			}
+		}
+		
+		int[] result = new int[count];
+		System.arraycopy(ents, 0, result, 0, count);
+		return result;
+	}
+	
+	private int addEntrance(int[] ents, int count, int r, int c, int nr, int nc)
+	{
+		ents[count++] = search.index(r, c);
+		ents[count++] = search.index(r + nr, c + nc);
+		return count;
+	}
+	
+	private void computeCluster(int k)
+	{
+		Cluster cl = clusters[k];
+		int cr = k / cCols;
+		int cc = k % cCols;
+		
+		int[] east = eBorders[k];
+		int[] south = sBorders[k];
+		int[] west = 0 < cc ? eBorders[k - 1] : new int[0];
+		int[] north = 0 < cr ? sBorders[k - cCols] : new int[0];
+		
+		// Gather the entrances on all four borders.
+		cl.east = 0;
+		cl.south = cl.east + east.length / 2;
+		cl.west = cl.south + south.length / 2;
+		cl.north = cl.west + west.length / 2;
+		
+		int count = cl.north + north.length / 2;
+		cl.tiles = new int[count];
+		for(int j = 0; j < east.length / 2; j++)
+			cl.tiles[cl.east + j] = east[2 * j];
+		for(int j = 0; j < south.length / 2; j++)
+			cl.tiles[cl.south + j] = south[2 * j];
+		for(int j = 0; j < west.length / 2; j++)
+			cl.tiles[cl.west + j] = west[2 * j + 1];
+		for(int j = 0; j < north.length / 2; j++)
+			cl.tiles[cl.north + j] = north[2 * j + 1];
+		
+		// Compute the costs between all entrances.
+		cl.costs = new float[count * count];
+		search.setReversed(false);
+		bound(k);
+		
+		for(int i = 0; i < count; i++)
+		{
+			search.search(cl.tiles[i], -1);
+			for(int j = 0; j < count; j++)
+			{
+				cl.costs[i * count + j] = search.Score(cl.tiles[j]);
+			}
+		}
+	}
+	
+	private float[] flood(int tile, int k, boolean isReversed)
+	{
+		Cluster cl = clusters[k];
+		float[] costs = new float[cl.tiles.length];
+		
+		bound(k);
+		search.setReversed(isReversed);
+		search.search(tile, -1);
+		for(int j = 0; j < costs.length; j++)
+		{
+			costs[j] = search.Score(cl.tiles[j]);
+		}
+		
+		search.setReversed(false);
+		return costs;
+	}
+	
+	private int[] route(int s, int t, int ks, int kt, float[] sCosts, float[] tCosts, float direct)
+	{
+		stamp++;
+		queue.clear();
+		visit(sNode, -1, 0f, s, t);
+		
+		while(!queue.isEmpty())
+		{
+			int curr = queue.pop();
+			// If it reaches the destination...
+			if(curr == tNode)
+			{
+				// ...collect the route.
+				int length = 0;
+				for(int i = curr; i >= 0; i = parents[i])
+					length++;
+				
+				int[] route = new int[length];
+				for(int i = curr, j = length - 1; i >= 0; i = parents[i], j--)
+					route[j] = i == sNode ? s : (i == tNode ? t : entrance(i));
+				return route;
+			}
+			
+			float score = scores[curr];
+			// If the node is the source...
+			if(curr == sNode)
+			{
+				// ...connect it to its own cluster.
+				Cluster cl = clusters[ks];
+				for(int j = 0; j < sCosts.length; j++)
+				{
+					relax(cl.base + j, curr, score + sCosts[j], t);
+				}
+				
+				relax(tNode, curr, score + direct, t);
+				continue;
+			}
+			
+			
+			// Otherwise, find the entrance of the node.
+			int k = owner(curr);
+			Cluster cl = clusters[k];
+			int j = curr - cl.base;
+			int count = cl.tiles.length;
+			
+			// Connect it within its cluster...
+			for(int i = 0; i < count; i++)
+			{
+				relax(cl.base + i, curr, score + cl.costs[j * count + i], t);
+			}
+			
+			// ...to the target...
+			if(k == kt)
+			{
+				relax(tNode, curr, score + tCosts[j], t);
+			}
+			
+			// ...and across its border.
+			int next = partner(k, j);
+			float step = search.cost(entrance(next));
+			// Skip entrances blocked since the last rebuild.
+			if(step != TiledFinder.BLOCKED)
+			{
+				relax(next, curr, score + step, t);
+			}
+		}
+		
+		return null;
+	}
+	
+	private void relax(int node, int parent, float score, int tgt)
+	{
+		// Ignore unreachable connections.
+		if(score >= Floats.MAX_VALUE)
+		{
+			return;
+		}
+		
+		if(seen[node] != stamp || score < scores[node])
+		{
+			int tile = node == tNode ? tgt : entrance(node);
+			visit(node, parent, score, tile, tgt);
+		}
+	}
+	
+	private void visit(int node, int parent, float score, int tile, int tgt)
+	{
+		seen[node] = stamp;
+		scores[node] = score;
+		parents[node] = parent;
+		
+		queue.push(node, score + search.estimate(tile, tgt));
+	}
+	
+	private int owner(int node)
+	{
+		// Binary search the cluster bases.
+		int lo = 0, hi = clusters.length - 1;
+		while(lo < hi)
+		{
+			int mid = (lo + hi + 1) / 2;
+			if(clusters[mid].base <= node)
+				lo = mid;
+			else
+				hi = mid - 1;
+		}
+		
+		return lo;
+	}
+	
+	private int partner(int k, int j)
+	{
+		Cluster cl = clusters[k];
+		if(j < cl.south)
+			return clusters[k + 1].base + clusters[k + 1].west + (j - cl.east);
+		if(j < cl.west)
+			return clusters[k + cCols].base + clusters[k + cCols].north + (j - cl.south);
+		if(j < cl.north)
+			return clusters[k - 1].base + clusters[k - 1].east + (j - cl.west);
+		return clusters[k - cCols].base + clusters[k - cCols].south + (j - cl.north);
+	}
+	
+	private int entrance(int node)
+	{
+		Cluster cl = clusters[owner(node)];
+		return cl.tiles[node - cl.base];
+	}
+	
+	private Path<T> refine(int[] route)
+	{
+		Path<T> path = new Path<>(null, search.tile(route[0]), 0f);
+		for(int i = 1; i < route.length; i++)
+		{
+			int a = route[i - 1];
+			int b = route[i];
+			// Skip entrances which share a tile.
+			if(a == b)
+			{
+				continue;
+			}
+			
+			// Steps across a border are a single tile...
+			int k = cluster(a);
+			if(k != cluster(b))
+			{
+				path = new Path<>(path, search.tile(b), search.step(a, b));
+				continue;
+			}
+			
+			// ...while steps within a cluster are refined.
+			bound(k);
+			// If the layout changed unnoticed...
+			if(!search.search(a, b))
+			{
+				// ...the route cannot be refined.
+				return null;
+			}
+			
+			Path<T> step = search.trace(b);
+			int prev = a, skip = 1;
+			for(T tile : step)
+			{
+				if(0 < skip--)
+				{
+					continue;
+				}
+				
+				int next = search.index(tile.Row(), tile.Column());
+				path = new Path<>(path, tile, search.step(prev, next));
+				prev = next;
+			}
+		}
+		
+		return path;
+	}
+}
\ No newline at end of file
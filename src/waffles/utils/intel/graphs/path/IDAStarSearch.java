@@ -0,0 +1,221 @@
+package waffles.utils.intel.graphs.path;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import waffles.utils.intel.graphs.Path;
+import waffles.utils.intel.utilities.cost.Heuristic;
+import waffles.utils.sets.keymaps.delegate.JHashMap;
+import waffles.utils.tools.primitives.Floats;
+
+/**
+ * The {@code IDAStarSearch} algorithm computes an optimal path with a bounded amount of memory.
+ * It performs a series of depth-first searches, each of which prunes every path whose cost
+ * plus estimate exceeds a bound, and raises that bound to the smallest pruned value until
+ * the target is found. Only the current path is kept in memory, on an explicit stack so
+ * that deep searches cannot overflow the call stack. A transposition table of limited
+ * capacity remembers the cheapest cost at which recent objects were reached, so paths
+ * which reach them at a higher cost are pruned. Once it is full, the least recently
+ * used entries are evicted, which costs time instead of memory. Note that an unreachable
+ * target is only detected once no path is left to prune, which may take many iterations.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <O>  an object type
+ * @see <a href="https://en.wikipedia.org/wiki/Iterative_deepening_A*">IDA* search algorithm</a>
+ * @see Heuristic
+ * @see Path
+ */
+public class IDAStarSearch<O> implements Path.Finder<O>
+{
+	private O target;
+	private Heuristic<O> heur;
+	private float bound, next;
+	
+	private int depth;
+	private Object[] nodes;
+	private float[] costs;
+	private Iterator<?>[] iters;
+	
+	private JHashMap<O, Integer> path;
+	private Map<O, Float> table;
+	
+	/**
+	 * Creates a new {@code IDAStarSearch}.
+	 * 
+	 * @param h    a path heuristic
+	 * @param cap  a table capacity
+	 * 
+	 * 
+	 * @see Heuristic
+	 */
+	public IDAStarSearch(Heuristic<O> h, int cap)
+	{
+		table = new LinkedHashMap<>(16, 0.75f, true)
+		{
+			private static final long serialVersionUID = 1L;
+			
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<O, Float> eldest)
+			{
+				return cap < size();
+			}
+		};
+		
+		path = new JHashMap<>();
+		nodes = new Object[16];
+		costs = new float[16];
+		iters = new Iterator<?>[16];
+		heur = h;
+	}
+	
+	
+	@Override
+	public Path<O> connect(O src, O tgt)
+	{
+		target = tgt;
+		
+		float cost = heur.cost(src);
+		bound = cost + heur.estimate(src, tgt);
+		while(true)
+		{
+			next = Floats.MAX_VALUE;
+			table.clear();
+			
+			// If the target lies within the bound...
+			if(descend(src, cost))
+			{
+				// Return the current path.
+				return trace();
+			}
+			
+			// If nothing was pruned...
+			if(next >= Floats.MAX_VALUE)
+			{
+				// The target cannot be reached.
+				return null;
+			}
+			
+			// Otherwise, raise the bound.
+			bound = next;
+		}
+	}
+	
+	
+	@SuppressWarnings("unchecked")
+	private boolean descend(O src, float cost)
+	{
+		depth = 0;
+		table.put(src, cost);
+		push(src, cost);
+		
+		while(depth > 0)
+		{
+			int top = depth - 1;
+			O node = (O) nodes[top];
+			// If the node is entered for the first time...
+			if(iters[top] == null)
+			{
+				// ...prune it if it exceeds the bound.
+				float score = costs[top] + heur.estimate(node, target);
+				if(bound < score)
+				{
+					next = score < next ? score : next;
+					pop();
+					continue;
+				}
+				
+				// If it reaches the destination...
+				if(node.equals(target))
+				{
+					// Finish the search.
+					return true;
+				}
+				
+				iters[top] = heur.neighbours(node).iterator();
+			}
+			
+			// If all neighbours have been explored...
+			Iterator<O> iter = (Iterator<O>) iters[top];
+			if(!iter.hasNext())
+			{
+				pop();
+				continue;
+			}
+			
+			// Skip neighbours which form a cycle.
+			O child = iter.next();
+			if(path.get(child) != null)
+			{
+				continue;
+			}
+			
+			// Skip neighbours reached more cheaply before.
+			float cNew = costs[top] + heur.cost(child);
+			Float cOld = table.get(child);
+			if(cOld != null && cOld <= cNew)
+			{
+				continue;
+			}
+			
+			table.put(child, cNew);
+			push(child, cNew);
+		}
+		
+		return false;
+	}
+	
+	private void push(O node, float cost)
+	{
+		if(depth == nodes.length)
+		{
+			int size = 2 * depth;
+			Object[] nCopy = new Object[size];
+			float[] cCopy = new float[size];
+			Iterator<?>[] iCopy = new Iterator<?>[size];
+			System.arraycopy(nodes, 0, nCopy, 0, depth);
+			System.arraycopy(costs, 0, cCopy, 0, depth);
+			System.arraycopy(iters, 0, iCopy, 0, depth);
+			nodes = nCopy; costs = cCopy; iters = iCopy;
+		}
+		
+		path.put(node, depth);
+		nodes[depth] = node;
+		costs[depth] = cost;
+		iters[depth] = null;
+		depth++;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private void pop()
+	{
+		depth--;
+		path.remove((O) nodes[depth]);
+		nodes[depth] = null;
+		iters[depth] = null;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private Path<O> trace()
+	{
+		Path<O> result = new Path<>();
+		for(int i = 0; i < depth; i++)
+		{
+			O obj = (O) nodes[i];
+			result = new Path<>(result, obj, heur.cost(obj));
+		}
+		
+		// Release the search state.
+		while(depth > 0)
+		{
+			pop();
+		}
+		
+		table.clear();
+		return result;
+	}
+}
\ No newline at end of file
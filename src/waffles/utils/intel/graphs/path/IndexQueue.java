@@ -0,0 +1,225 @@
+package waffles.utils.intel.graphs.path;
+
+import waffles.utils.tools.primitives.Floats;
+
+/**
+ * An {@code IndexQueue} is an indexed 4-ary heap of integer nodes with float keys.
+ * It tracks the heap position of every node, so pushing a node which is already
+ * queued updates its key in place instead of adding a duplicate. All data is
+ * stored in flat primitive arrays, and clearing the queue takes constant time.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ */
+public class IndexQueue
+{
+	private static final int ARITY = 4;
+	
+	
+	private int count;
+	private float[] keys;
+	private int[] heap, index;
+	
+	/**
+	 * Creates a new {@code IndexQueue}.
+	 * 
+	 * @param size  a node capacity
+	 */
+	public IndexQueue(int size)
+	{
+		int init = size < 64 ? size : 64;
+		
+		index = new int[size];
+		heap = new int[init < 1 ? 1 : init];
+		keys = new float[heap.length];
+	}
+	
+	
+	/**
+	 * Pushes a node into the {@code IndexQueue}.
+	 * If the node is already queued, its
+	 * key is updated in place.
+	 * 
+	 * @param node  a node index
+	 * @param key   a node key
+	 */
+	public void push(int node, float key)
+	{
+		// If the node is already queued...
+		if(contains(node))
+		{
+			// ...update its key.
+			int i = index[node];
+			float old = keys[i];
+			keys[i] = key;
+			
+			if(key < old)
+				siftUp(i);
+			else
+				siftDown(i);
+			return;
+		}
+		
+		// Otherwise, append it to the heap.
+		if(count == heap.length)
+		{
+			int size = 2 * count;
+			if(index.length < size)
+			{
+				size = index.length;
+			}
+			
+			int[] hCopy = new int[size];
+			float[] kCopy = new float[size];
+			System.arraycopy(heap, 0, hCopy, 0, count);
+			System.arraycopy(keys, 0, kCopy, 0, count);
+			heap = hCopy; keys = kCopy;
+		}
+		
+		place(node, key, count++);
+		siftUp(count - 1);
+	}
+	
+	/**
+	 * Pops the first node from the {@code IndexQueue}.
+	 * 
+	 * @return  a node index, or -1 if empty
+	 */
+	public int pop()
+	{
+		if(count == 0)
+		{
+			return -1;
+		}
+		
+		int first = heap[0];
+		count--;
+		
+		if(0 < count)
+		{
+			place(heap[count], keys[count], 0);
+			siftDown(0);
+		}
+		
+		return first;
+	}
+	
+	/**
+	 * Checks if the {@code IndexQueue} contains a node.
+	 * 
+	 * @param node  a node index
+	 * @return  {@code true} if the node is queued
+	 */
+	public boolean contains(int node)
+	{
+		int i = index[node];
+		return 0 <= i && i < count && heap[i] == node;
+	}
+	
+	/**
+	 * Returns the first key in the {@code IndexQueue}.
+	 * 
+	 * @return  a minimum key
+	 */
+	public float Key()
+	{
+		if(count == 0)
+		{
+			return Floats.MAX_VALUE;
+		}
+		
+		return keys[0];
+	}
+	
+	/**
+	 * Checks if the {@code IndexQueue} is empty.
+	 * 
+	 * @return  {@code true} if the queue is empty
+	 */
+	public boolean isEmpty()
+	{
+		return count == 0;
+	}
+	
+	/**
+	 * Returns the size of the {@code IndexQueue}.
+	 * 
+	 * @return  a node count
+	 */
+	public int Count()
+	{
+		return count;
+	}
+	
+	/**
+	 * Clears the {@code IndexQueue}.
+	 */
+	public void clear()
+	{
+		count = 0;
+	}
+	
+	
+	private void place(int node, float key, int i)
+	{
+		index[node] = i;
+		heap[i] = node;
+		keys[i] = key;
+	}
+	
+	private void siftUp(int i)
+	{
+		int node = heap[i];
+		float key = keys[i];
+		while(0 < i)
+		{
+			int p = (i - 1) / ARITY;
+			if(keys[p] <= key)
+			{
+				break;
+			}
+			
+			place(heap[p], keys[p], i);
+			i = p;
+		}
+		
+		place(node, key, i);
+	}
+	
+	private void siftDown(int i)
+	{
+		int node = heap[i];
+		float key = keys[i];
+		while(true)
+		{
+			int min = -1;
+			int first = ARITY * i + 1;
+			int last = first + ARITY;
+			if(count < last)
+			{
+				last = count;
+			}
+			
+			// Find the smallest child.
+			for(int c = first; c < last; c++)
+			{
+				if(min < 0 || keys[c] < keys[min])
+				{
+					min = c;
+				}
+			}
+			
+			// If it does not precede the node...
+			if(min < 0 || key <= keys[min])
+			{
+				break;
+			}
+			
+			place(heap[min], keys[min], i);
+			i = min;
+		}
+		
+		place(node, key, i);
+	}
+}
\ No newline at end of file
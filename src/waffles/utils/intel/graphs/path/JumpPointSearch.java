@@ -0,0 +1,289 @@
+package waffles.utils.intel.graphs.path;
+
+import waffles.utils.geom.spaces.index.TiledSpace2D;
+import waffles.utils.geom.spaces.index.tiles.Tiled2D;
+import waffles.utils.intel.graphs.Path;
+import waffles.utils.tools.primitives.Integers;
+
+/**
+ * The {@code JumpPointSearch} algorithm computes an optimal path on a uniform-cost {@code TiledSpace2D}.
+ * Instead of pushing every neighbour of a tile into the open list, it prunes all neighbours that can be
+ * reached symmetrically through its parent, and jumps along straight and diagonal lines until it finds
+ * a tile with a forced neighbour. Only those jump points enter the open list. The grid is assumed to
+ * be 8-connected without corner cutting, and the {@code TiledLayout} is only queried for blocked
+ * tiles, since every open tile costs the same. The resulting {@code Path} is filled in between
+ * jump points, so it visits the same contiguous tiles as a {@code TiledSearch} would.
+ * On a 4-connected layout, or if the path crosses a tile which costs more than the
+ * minimum, the query is delegated to a {@code TiledSearch} instead.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <T>  a tile type
+ * @see <a href="https://en.wikipedia.org/wiki/Jump_point_search">Jump point search</a>
+ * @see TiledFinder
+ * @see Tiled2D
+ */
+public class JumpPointSearch<T extends Tiled2D> extends TiledFinder<T>
+{
+	private TiledSearch<T> fallback;
+	
+	/**
+	 * Creates a new {@code JumpPointSearch}.
+	 * 
+	 * @param s    a tiled space
+	 * @param lyt  a tiled layout
+	 * 
+	 * 
+	 * @see TiledLayout
+	 * @see TiledSpace2D
+	 */
+	public JumpPointSearch(TiledSpace2D<T> s, TiledLayout<T> lyt)
+	{
+		super(s, lyt);
+	}
+	
+	
+	@Override
+	public Path<T> connect(T src, T tgt)
+	{
+		// Jumps require an 8-connected grid.
+		if(!Layout().hasDiagonals())
+		{
+			return Fallback().connect(src, tgt);
+		}
+		
+		Path<T> path = super.connect(src, tgt);
+		// If the path crosses a more expensive tile...
+		if(path != null && !isUniform(path))
+		{
+			// ...it might not be optimal.
+			return Fallback().connect(src, tgt);
+		}
+		
+		return path;
+	}
+	
+	@Override
+	protected void expand(int curr, int tgt)
+	{
+		int r = curr / Columns();
+		int c = curr % Columns();
+		
+		int p = parent(curr);
+		// If the tile is the source...
+		if(p < 0)
+		{
+			// ...jump in every direction.
+			for(int dr = -1; dr <= 1; dr++)
+			{
+				for(int dc = -1; dc <= 1; dc++)
+				{
+					if(dr != 0 || dc != 0)
+					{
+						explore(curr, r, c, dr, dc, tgt);
+					}
+				}
+			}
+			
+			return;
+		}
+		
+		// Otherwise, find the direction of travel.
+		int dr = Integer.signum(r - p / Columns());
+		int dc = Integer.signum(c - p % Columns());
+		
+		// If it travels diagonally...
+		if(dr != 0 && dc != 0)
+		{
+			// ...only continue forward.
+			explore(curr, r, c, dr, 0, tgt);
+			explore(curr, r, c, 0, dc, tgt);
+			explore(curr, r, c, dr, dc, tgt);
+			return;
+		}
+		
+		// If it travels along a row...
+		if(dr == 0)
+		{
+			// ...continue forward and check both sides.
+			explore(curr, r, c, 0, dc, tgt);
+			explore(curr, r, c, +1, dc, tgt);
+			explore(curr, r, c, -1, dc, tgt);
+			explore(curr, r, c, +1, 0, tgt);
+			explore(curr, r, c, -1, 0, tgt);
+			return;
+		}
+		
+		// If it travels along a column...
+		explore(curr, r, c, dr, 0, tgt);
+		explore(curr, r, c, dr, +1, tgt);
+		explore(curr, r, c, dr, -1, tgt);
+		explore(curr, r, c, 0, +1, tgt);
+		explore(curr, r, c, 0, -1, tgt);
+	}
+	
+	@Override
+	protected Path<T> convert(int[] nodes)
+	{
+		Path<T> path = new Path<>();
+		if(nodes.length == 0)
+		{
+			return path;
+		}
+		
+		int r = nodes[0] / Columns();
+		int c = nodes[0] % Columns();
+		path = new Path<>(path, tile(nodes[0]), 0f);
+		
+		// Fill in the tiles between jump points.
+		for(int i = 1; i < nodes.length; i++)
+		{
+			int nr = nodes[i] / Columns();
+			int nc = nodes[i] % Columns();
+			
+			int dr = Integer.signum(nr - r);
+			int dc = Integer.signum(nc - c);
+			while(r != nr || c != nc)
+			{
+				int prev = index(r, c);
+				r += dr; c += dc;
+				
+				int next = index(r, c);
+				path = new Path<>(path, tile(next), step(prev, next));
+			}
+		}
+		
+		return path;
+	}
+	
+	@Override
+	protected float cost(int i)
+	{
+		float cost = super.cost(i);
+		if(cost == BLOCKED)
+		{
+			return BLOCKED;
+		}
+		
+		return Layout().MinimumCost();
+	}
+	
+	
+	private TiledSearch<T> Fallback()
+	{
+		if(fallback == null)
+		{
+			fallback = new TiledSearch<>(Space(), Layout());
+		}
+		
+		return fallback;
+	}
+	
+	private boolean isUniform(Path<T> path)
+	{
+		// Every path costs at least its uniform cost,
+		// so a uniform path is optimal as well.
+		float min = Layout().MinimumCost();
+		for(T tile : path)
+		{
+			int i = index(tile.Row(), tile.Column());
+			if(super.cost(i) != min)
+			{
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
+	private void explore(int curr, int r, int c, int dr, int dc, int tgt)
+	{
+		// Diagonal steps cannot cut a blocked corner.
+		if(dr != 0 && dc != 0)
+		{
+			if(!isOpen(r + dr, c) || !isOpen(r, c + dc))
+			{
+				return;
+			}
+		}
+		
+		int next = jump(r + dr, c + dc, dr, dc, tgt);
+		// If a jump point was found...
+		if(0 <= next)
+		{
+			// ...relax it as a successor.
+			float score = score(curr) + distance(curr, next);
+			relax(next, curr, score, tgt);
+		}
+	}
+	
+	private int jump(int r, int c, int dr, int dc, int tgt)
+	{
+		while(isOpen(r, c))
+		{
+			int curr = index(r, c);
+			// If it reaches the destination...
+			if(curr == tgt)
+			{
+				return curr;
+			}
+			
+			// If it travels diagonally...
+			if(dr != 0 && dc != 0)
+			{
+				// ...stop where a straight jump succeeds.
+				if(0 <= jump(r, c + dc, 0, dc, tgt)
+				|| 0 <= jump(r + dr, c, dr, 0, tgt))
+				{
+					return curr;
+				}
+				
+				// Diagonal steps cannot cut a blocked corner.
+				if(!isOpen(r + dr, c) || !isOpen(r, c + dc))
+				{
+					return -1;
+				}
+			}
+			// If it travels along a row...
+			else if(dr == 0)
+			{
+				// ...stop at a forced neighbour.
+				if((isOpen(r - 1, c) && !isOpen(r - 1, c - dc))
+				|| (isOpen(r + 1, c) && !isOpen(r + 1, c - dc)))
+				{
+					return curr;
+				}
+			}
+			// If it travels along a column...
+			else
+			{
+				// ...stop at a forced neighbour.
+				if((isOpen(r, c - 1) && !isOpen(r - dr, c - 1))
+				|| (isOpen(r, c + 1) && !isOpen(r - dr, c + 1)))
+				{
+					return curr;
+				}
+			}
+			
+			r += dr;
+			c += dc;
+		}
+		
+		return -1;
+	}
+	
+	private float distance(int src, int tgt)
+	{
+		int dr = Integers.abs(src / Columns() - tgt / Columns());
+		int dc = Integers.abs(src % Columns() - tgt % Columns());
+		
+		int min = dr < dc ? dr : dc;
+		int max = dr < dc ? dc : dr;
+		
+		float dist = (max - min) + DIAGONAL * min;
+		return dist * Layout().MinimumCost();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package waffles.utils.intel.graphs.path;
+
+import waffles.utils.intel.utilities.cost.Heuristic;
+
+/**
+ * A {@code LandmarkHeuristic} tightens the estimate of a {@code Heuristic} with precomputed {@code Landmarks}.
+ * Its estimate is the largest of the original estimate and the landmark bound, so it remains
+ * admissible as long as both are. All other queries are passed on to the original heuristic.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <O>  an object type
+ * @see Landmarks
+ * @see Heuristic
+ */
+public class LandmarkHeuristic<O> implements Heuristic<O>
+{
+	private Heuristic<O> heur;
+	private Landmarks<O> marks;
+	
+	/**
+	 * Creates a new {@code LandmarkHeuristic}.
+	 * 
+	 * @param h  a path heuristic
+	 * @param m  a set of landmarks
+	 * 
+	 * 
+	 * @see Landmarks
+	 * @see Heuristic
+	 */
+	public LandmarkHeuristic(Heuristic<O> h, Landmarks<O> m)
+	{
+		heur = h;
+		marks = m;
+	}
+	
+	
+	@Override
+	public Iterable<O> neighbours(O tgt)
+	{
+		return heur.neighbours(tgt);
+	}
+	
+	@Override
+	public Iterable<O> predecessors(O tgt)
+	{
+		return heur.predecessors(tgt);
+	}
+	
+	@Override
+	public float estimate(O src, O tgt)
+	{
+		float est = heur.estimate(src, tgt);
+		float alt = marks.estimate(src, tgt);
+		return est < alt ? alt : est;
+	}
+	
+	@Override
+	public boolean isConcurrent()
+	{
+		return heur.isConcurrent();
+	}
+	
+	@Override
+	public float cost(O tgt)
+	{
+		return heur.cost(tgt);
+	}
+}
\ No newline at end of file
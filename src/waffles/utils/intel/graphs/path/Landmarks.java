@@ -0,0 +1,331 @@
+package waffles.utils.intel.graphs.path;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import waffles.utils.tools.primitives.Floats;
+
+/**
+ * The {@code Landmarks} class precomputes the distances from and to a small set of landmark objects.
+ * By the triangle inequality, the difference between the distances of two objects to the same
+ * landmark is a lower bound on their distance, which yields a much tighter estimate on large
+ * sparse graphs than most geometric heuristics. Landmarks are either given, or selected
+ * farthest-first so they lie on the outskirts of the graph. The distances of each
+ * landmark are computed in parallel, and stored in two flat {@code float[]}
+ * tables, which can be saved and loaded to avoid recomputing them.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <O>  an object type
+ * @see <a href="https://www.microsoft.com/en-us/research/publication/computing-the-shortest-path-a-search-meets-graph-theory/">ALT</a>
+ * @see LandmarkHeuristic
+ * @see GraphIndex
+ */
+public class Landmarks<O>
+{
+	private static final int MAGIC = 0x414C5431;
+	
+	
+	/**
+	 * Loads {@code Landmarks} from a file.
+	 * The graph index has to list its objects
+	 * in the same order as when they were saved.
+	 * 
+	 * @param <O>   an object type
+	 * @param g     a graph index
+	 * @param file  a source file
+	 * @return  a set of landmarks, or {@code null} if invalid
+	 * 
+	 * 
+	 * @see GraphIndex
+	 * @see File
+	 */
+	public static <O> Landmarks<O> load(GraphIndex<O> g, File file)
+	{
+		try(RandomAccessFile raf = new RandomAccessFile(file, "r"))
+		{
+			FileChannel channel = raf.getChannel();
+			ByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			// If the header does not match the graph...
+			if(buf.getInt() != MAGIC || buf.getInt() != g.Count())
+			{
+				return null;
+			}
+			
+			int k = buf.getInt();
+			int[] marks = new int[k];
+			for(int i = 0; i < k; i++)
+			{
+				marks[i] = buf.getInt();
+			}
+			
+			float[] fwd = new float[k * g.Count()];
+			float[] bwd = new float[k * g.Count()];
+			buf.asFloatBuffer().get(fwd);
+			buf.position(buf.position() + 4 * fwd.length);
+			buf.asFloatBuffer().get(bwd);
+			
+			return new Landmarks<>(g, marks, fwd, bwd);
+		}
+		catch(IOException | RuntimeException e)
+		{
+			return null;
+		}
+	}
+	
+	
+	private int[] marks;
+	private GraphIndex<O> graph;
+	private float[] fwd, bwd;
+	
+	/**
+	 * Creates new {@code Landmarks}.
+	 * The landmarks are selected farthest-first.
+	 * 
+	 * @param g  a graph index
+	 * @param k  a landmark count
+	 * 
+	 * 
+	 * @see GraphIndex
+	 */
+	public Landmarks(GraphIndex<O> g, int k)
+	{
+		int n = g.Count();
+		k = k < n ? k : n;
+		
+		graph = g;
+		marks = new int[k];
+		fwd = new float[k * n];
+		bwd = new float[k * n];
+		if(k == 0)
+		{
+			return;
+		}
+		
+		// Start from the object farthest from the first.
+		float[] near = new float[n];
+		marks[0] = farthest(g.distances(0, false));
+		for(int i = 0; i < n; i++)
+		{
+			near[i] = Floats.MAX_VALUE;
+		}
+		
+		// Each next landmark lies farthest from all others.
+		for(int j = 0; j < k; j++)
+		{
+			float[] dists = g.distances(marks[j], false);
+			store(fwd, dists, j);
+			
+			for(int i = 0; i < n; i++)
+			{
+				if(dists[i] < near[i])
+				{
+					near[i] = dists[i];
+				}
+			}
+			
+			if(j + 1 < k)
+			{
+				marks[j + 1] = farthest(near);
+			}
+		}
+		
+		// The reverse distances are independent.
+		IntStream.range(0, k).parallel().forEach(j ->
+		{
+			store(bwd, g.distances(marks[j], true), j);
+		});
+	}
+	
+	/**
+	 * Creates new {@code Landmarks}.
+	 * Every landmark must be part of the
+	 * graph index, or this constructor
+	 * throws an exception.
+	 * 
+	 * @param g    a graph index
+	 * @param set  a list of landmarks
+	 * 
+	 * 
+	 * @see GraphIndex
+	 * @see List
+	 */
+	public Landmarks(GraphIndex<O> g, List<O> set)
+	{
+		int k = set.size();
+		
+		graph = g;
+		marks = new int[k];
+		fwd = new float[k * g.Count()];
+		bwd = new float[k * g.Count()];
+		for(int j = 0; j < k; j++)
+		{
+			marks[j] = g.index(set.get(j));
+			// Every landmark must lie in the graph.
+			if(marks[j] < 0)
+			{
+				throw new IllegalArgumentException("Landmark " + set.get(j) + " is not indexed.");
+			}
+		}
+		
+		// Compute every table in parallel.
+		IntStream.range(0, 2 * k).parallel().forEach(t ->
+		{
+			int j = t % k;
+			if(t < k)
+				store(fwd, g.distances(marks[j], false), j);
+			else
+				store(bwd, g.distances(marks[j], true), j);
+		});
+	}
+	
+	private Landmarks(GraphIndex<O> g, int[] m, float[] f, float[] b)
+	{
+		graph = g;
+		marks = m;
+		fwd = f;
+		bwd = b;
+	}
+	
+	
+	/**
+	 * Returns a cost estimate between objects.
+	 * This is the largest lower bound provided
+	 * by any of the landmarks.
+	 * 
+	 * @param src  a source object
+	 * @param tgt  a target object
+	 * @return  a cost estimate
+	 */
+	public float estimate(O src, O tgt)
+	{
+		int s = graph.index(src);
+		int t = graph.index(tgt);
+		if(s < 0 || t < 0)
+		{
+			return 0f;
+		}
+		
+		float best = 0f;
+		int k = marks.length;
+		for(int j = 0; j < k; j++)
+		{
+			// d(L, t) - d(L, s) <= d(s, t)
+			float ls = fwd[s * k + j], lt = fwd[t * k + j];
+			if(ls < Floats.MAX_VALUE && lt < Floats.MAX_VALUE)
+			{
+				if(best < lt - ls)
+				{
+					best = lt - ls;
+				}
+			}
+			
+			// d(s, L) - d(t, L) <= d(s, t)
+			float sl = bwd[s * k + j], tl = bwd[t * k + j];
+			if(sl < Floats.MAX_VALUE && tl < Floats.MAX_VALUE)
+			{
+				if(best < sl - tl)
+				{
+					best = sl - tl;
+				}
+			}
+		}
+		
+		return best;
+	}
+	
+	/**
+	 * Saves the {@code Landmarks} to a file.
+	 * The file is written through a memory map,
+	 * without copying the tables on the heap.
+	 * 
+	 * @param file  a target file
+	 * @return  {@code true} if the file was written
+	 * 
+	 * 
+	 * @see File
+	 */
+	public boolean save(File file)
+	{
+		int k = marks.length;
+		long size = 4L * (3L + k + fwd.length + bwd.length);
+		
+		try(RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.setLength(size);
+			FileChannel channel = raf.getChannel();
+			ByteBuffer buf = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+			buf.putInt(MAGIC).putInt(graph.Count()).putInt(k);
+			for(int mark : marks)
+			{
+				buf.putInt(mark);
+			}
+			
+			buf.asFloatBuffer().put(fwd);
+			buf.position(buf.position() + 4 * fwd.length);
+			buf.asFloatBuffer().put(bwd);
+			return true;
+		}
+		catch(IOException | RuntimeException e)
+		{
+			return false;
+		}
+	}
+	
+	/**
+	 * Returns a landmark of the {@code Landmarks}.
+	 * 
+	 * @param j  a landmark index
+	 * @return  a landmark object
+	 */
+	public O get(int j)
+	{
+		return graph.node(marks[j]);
+	}
+	
+	/**
+	 * Returns the size of the {@code Landmarks}.
+	 * 
+	 * @return  a landmark count
+	 */
+	public int Count()
+	{
+		return marks.length;
+	}
+	
+	
+	private void store(float[] table, float[] dists, int j)
+	{
+		int k = marks.length;
+		for(int i = 0; i < dists.length; i++)
+		{
+			table[i * k + j] = dists[i];
+		}
+	}
+	
+	private int farthest(float[] dists)
+	{
+		int best = 0;
+		float max = -1f;
+		for(int i = 0; i < dists.length; i++)
+		{
+			// Only consider reachable objects.
+			float d = dists[i];
+			if(d < Floats.MAX_VALUE && max < d)
+			{
+				best = i;
+				max = d;
+			}
+		}
+		
+		return best;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,444 @@
+package waffles.utils.intel.graphs.path;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import waffles.utils.intel.graphs.Path;
+import waffles.utils.intel.utilities.cost.Heuristic;
+import waffles.utils.sets.keymaps.delegate.JHashMap;
+import waffles.utils.tools.primitives.Floats;
+
+/**
+ * The {@code ParallelAStarSearch} algorithm computes a single optimal path on several threads at once.
+ * It implements hash-distributed A*, which assigns every object to one worker by its hash code.
+ * Each worker keeps its own open list and node map, and expands only the objects it owns,
+ * sending every successor to the inbox of its owner through a lock-free queue. The cost
+ * of the best path found so far is shared by all workers, and successors which cannot
+ * improve on it are never sent or expanded. Idle workers back off with growing pauses,
+ * and the search terminates once every worker is idle and no message is in transit,
+ * which is tracked by a single counter.
+ * If the {@code Heuristic} is not concurrent, all calls to it are serialized.
+ * The workers run on a fixed pool of daemon threads, which is created by the
+ * first search and kept until the finder is shut down. If a worker fails,
+ * all others are aborted and the failure is rethrown by the search.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <O>  an object type
+ * @see <a href="https://doi.org/10.1145/1514201.1514202">Hash-distributed A*</a>
+ * @see Heuristic
+ * @see Path
+ */
+public class ParallelAStarSearch<O> implements Path.Finder<O>
+{
+	private static class Node<O> extends AStarNode<O>
+	{
+		private O object;
+		private Node<O> parent;
+		
+		public Node(O obj, Node<O> prev, float cost, float score)
+		{
+			super(null, cost, score);
+			parent = prev;
+			object = obj;
+		}
+	}
+	
+	private static class Message<O>
+	{
+		private O object;
+		private Node<O> parent;
+		private float cost;
+		
+		public Message(O obj, Node<O> prev, float c)
+		{
+			parent = prev;
+			object = obj;
+			cost = c;
+		}
+	}
+	
+	private static class Serialized<O> implements Heuristic<O>
+	{
+		private Heuristic<O> heur;
+		
+		public Serialized(Heuristic<O> h)
+		{
+			heur = h;
+		}
+		
+		
+		@Override
+		public synchronized Iterable<O> neighbours(O tgt)
+		{
+			// Copy the neighbours while locked.
+			List<O> list = new ArrayList<>();
+			for(O next : heur.neighbours(tgt))
+			{
+				list.add(next);
+			}
+			
+			return list;
+		}
+		
+		@Override
+		public synchronized float estimate(O src, O tgt)
+		{
+			return heur.estimate(src, tgt);
+		}
+		
+		@Override
+		public synchronized float cost(O tgt)
+		{
+			return heur.cost(tgt);
+		}
+	}
+	
+	private class Worker implements Runnable
+	{
+		private long pause;
+		private boolean isIdle;
+		private AStarQueue<O> queue;
+		private JHashMap<O, Node<O>> nodes;
+		private ConcurrentLinkedQueue<Message<O>> inbox;
+		
+		public Worker()
+		{
+			inbox = new ConcurrentLinkedQueue<>();
+			queue = new AStarQueue<>();
+			nodes = new JHashMap<>();
+			pause = MIN_PAUSE;
+			isIdle = true;
+		}
+		
+		
+		@Override
+		public void run()
+		{
+			try
+			{
+				search();
+			}
+			catch(RuntimeException | Error e)
+			{
+				// Abort all other workers.
+				failure.compareAndSet(null, e);
+				isAborted = true;
+			}
+		}
+		
+		private void search()
+		{
+			while(!isAborted)
+			{
+				// Process all incoming successors.
+				Message<O> msg;
+				while((msg = inbox.poll()) != null)
+				{
+					// A message wakes up an idle worker.
+					if(isIdle)
+					{
+						isIdle = false;
+						busy.incrementAndGet();
+					}
+					
+					receive(msg);
+					busy.decrementAndGet();
+				}
+				
+				// If a node can still improve the path...
+				Node<O> next = (Node<O>) queue.peek();
+				if(next != null && next.Score() < best)
+				{
+					// ...expand it.
+					queue.pop();
+					expand(next);
+					continue;
+				}
+				
+				// Otherwise, the worker becomes idle.
+				if(!isIdle)
+				{
+					isIdle = true;
+					pause = MIN_PAUSE;
+					busy.decrementAndGet();
+				}
+				
+				// If no work is left anywhere...
+				if(busy.get() == 0)
+				{
+					// Finish the search.
+					return;
+				}
+				
+				// Otherwise, back off while idle.
+				LockSupport.parkNanos(pause);
+				pause = Math.min(2 * pause, MAX_PAUSE);
+			}
+		}
+		
+		private void receive(Message<O> msg)
+		{
+			Node<O> node = nodes.get(msg.object);
+			if(node == null)
+			{
+				float score = msg.cost + heur.estimate(msg.object, target);
+				node = new Node<>(msg.object, msg.parent, msg.cost, score);
+				nodes.put(msg.object, node);
+				queue.push(node);
+				return;
+			}
+			
+			// If the new cost is better...
+			if(msg.cost < node.Cost())
+			{
+				// ...reuse the estimate of the node.
+				float score = node.Score() - node.Cost() + msg.cost;
+				node.update(null, msg.cost, score);
+				node.parent = msg.parent;
+				queue.push(node);
+			}
+		}
+		
+		private void expand(Node<O> node)
+		{
+			// If it reaches the destination...
+			if(node.object.equals(target))
+			{
+				// ...offer it as the best path.
+				offer(node);
+				return;
+			}
+			
+			for(O next : heur.neighbours(node.object))
+			{
+				float cost = node.Cost() + heur.cost(next);
+				// Drop successors which cannot improve the path.
+				if(cost < best)
+				{
+					send(new Message<>(next, node, cost));
+				}
+			}
+		}
+	}
+	
+	
+	private static final long MIN_PAUSE = 1000L;
+	private static final long MAX_PAUSE = 100000L;
+	
+	
+	private int threads;
+	private Heuristic<O> heur;
+	private ExecutorService pool;
+	private AtomicInteger busy;
+	private List<Worker> workers;
+	
+	private O target;
+	private Node<O> goal;
+	private Object lock;
+	private volatile float best;
+	private volatile boolean isAborted;
+	private AtomicReference<Throwable> failure;
+	
+	/**
+	 * Creates a new {@code ParallelAStarSearch}.
+	 * 
+	 * @param h  a path heuristic
+	 * @param n  a thread count
+	 * 
+	 * 
+	 * @see Heuristic
+	 */
+	public ParallelAStarSearch(Heuristic<O> h, int n)
+	{
+		heur = h.isConcurrent() ? h : new Serialized<>(h);
+		threads = n < 1 ? 1 : n;
+		lock = new Object();
+	}
+	
+	/**
+	 * Creates a new {@code ParallelAStarSearch}.
+	 * It uses one thread for every available processor.
+	 * 
+	 * @param h  a path heuristic
+	 * 
+	 * 
+	 * @see Heuristic
+	 */
+	public ParallelAStarSearch(Heuristic<O> h)
+	{
+		this(h, Runtime.getRuntime().availableProcessors());
+	}
+	
+	
+	/**
+	 * Shuts down the {@code ParallelAStarSearch}.
+	 * This releases its worker threads, which
+	 * are recreated by the next search.
+	 */
+	public synchronized void shutdown()
+	{
+		if(pool != null)
+		{
+			pool.shutdown();
+			pool = null;
+		}
+	}
+	
+	
+	/**
+	 * Connects a source to a target with the {@code ParallelAStarSearch}.
+	 * If the calling thread is interrupted, the search is
+	 * abandoned, and its interrupt status is restored.
+	 * 
+	 * @param src  a source object
+	 * @param tgt  a target object
+	 * @return  a path between objects
+	 * 
+	 * 
+	 * @see Path
+	 */
+	@Override
+	public synchronized Path<O> connect(O src, O tgt)
+	{
+		if(pool == null)
+		{
+			pool = Executors.newFixedThreadPool(threads, r ->
+			{
+				Thread t = new Thread(r, "hda");
+				t.setDaemon(true);
+				return t;
+			});
+		}
+		
+		workers = new ArrayList<>();
+		for(int i = 0; i < threads; i++)
+		{
+			workers.add(new Worker());
+		}
+		
+		failure = new AtomicReference<>();
+		busy = new AtomicInteger();
+		best = Floats.MAX_VALUE;
+		isAborted = false;
+		target = tgt;
+		goal = null;
+		
+		// Seed the owner of the source.
+		send(new Message<>(src, null, heur.cost(src)));
+		
+		List<Future<?>> tasks = new ArrayList<>();
+		for(Worker w : workers)
+		{
+			tasks.add(pool.submit(w));
+		}
+		
+		// Wait for all workers to finish.
+		boolean isInterrupted = false;
+		for(Future<?> task : tasks)
+		{
+			while(true)
+			{
+				try
+				{
+					task.get();
+					break;
+				}
+				catch(InterruptedException e)
+				{
+					// Abandon the search.
+					isInterrupted = true;
+					isAborted = true;
+				}
+				catch(ExecutionException e)
+				{
+					break;
+				}
+			}
+		}
+		
+		workers = null;
+		if(isInterrupted)
+		{
+			Thread.currentThread().interrupt();
+		}
+		
+		// If a worker has failed...
+		Throwable t = failure.get();
+		if(t != null)
+		{
+			// ...rethrow its failure.
+			if(t instanceof Error)
+				throw (Error) t;
+			throw (RuntimeException) t;
+		}
+		
+		if(isAborted)
+		{
+			return null;
+		}
+		
+		return trace();
+	}
+	
+	
+	private void offer(Node<O> node)
+	{
+		synchronized(lock)
+		{
+			if(node.Cost() < best)
+			{
+				best = node.Cost();
+				goal = node;
+			}
+		}
+	}
+	
+	private void send(Message<O> msg)
+	{
+		int hash = msg.object.hashCode();
+		hash ^= hash >>> 16;
+		
+		// Count the message before it is sent.
+		busy.incrementAndGet();
+		workers.get(Math.floorMod(hash, threads)).inbox.offer(msg);
+	}
+	
+	private Path<O> trace()
+	{
+		if(goal == null)
+		{
+			return null;
+		}
+		
+		// Collect the objects in reverse.
+		List<Node<O>> list = new ArrayList<>();
+		for(Node<O> n = goal; n != null; n = n.parent)
+		{
+			list.add(n);
+		}
+		
+		// Each node holds its own cost.
+		float prev = 0f;
+		Path<O> path = new Path<>();
+		for(int i = list.size() - 1; i >= 0; i--)
+		{
+			Node<O> n = list.get(i);
+			path = new Path<>(path, n.object, n.Cost() - prev);
+			prev = n.Cost();
+		}
+		
+		return path;
+	}
+}
\ No newline at end of file
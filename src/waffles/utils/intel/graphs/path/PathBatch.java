@@ -0,0 +1,229 @@
+package waffles.utils.intel.graphs.path;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+import waffles.utils.intel.graphs.Path;
+import waffles.utils.intel.utilities.cost.Heuristic;
+
+/**
+ * A {@code PathBatch} solves a list of path requests in parallel on a {@code ForkJoinPool}.
+ * Workers borrow a {@code Path.Finder} for each range of requests they handle, from a pool
+ * which only lives as long as the batch, so finders are reused across requests without
+ * outliving the call. The results are returned in the order of the requests.
+ * Since all finders share their {@code Heuristic}, a batch only runs in parallel
+ * if that heuristic declares itself concurrent. Otherwise, it falls back
+ * to solving all requests in sequence on the calling thread.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <O>  an object type
+ * @see ForkJoinPool
+ * @see Path
+ */
+public class PathBatch<O>
+{
+	/**
+	 * A {@code PathBatch.Request} defines a single connection in a {@code PathBatch}.
+	 * 
+	 * @author Waffles
+	 * @since 18 Oct 2026
+	 * @version 1.0
+	 * 
+	 * 
+	 * @param <O>  an object type
+	 */
+	public static class Request<O>
+	{
+		private O source, target;
+		
+		/**
+		 * Creates a new {@code Request}.
+		 * 
+		 * @param src  a source object
+		 * @param tgt  a target object
+		 */
+		public Request(O src, O tgt)
+		{
+			source = src;
+			target = tgt;
+		}
+		
+		
+		/**
+		 * Returns the source of the {@code Request}.
+		 * 
+		 * @return  a source object
+		 */
+		public O Source()
+		{
+			return source;
+		}
+		
+		/**
+		 * Returns the target of the {@code Request}.
+		 * 
+		 * @return  a target object
+		 */
+		public O Target()
+		{
+			return target;
+		}
+	}
+	
+	
+	private static final int THRESHOLD = 8;
+	
+	private boolean isConcurrent;
+	private Supplier<Path.Finder<O>> finders;
+	private ForkJoinPool pool;
+	
+	/**
+	 * Creates a new {@code PathBatch}.
+	 * 
+	 * @param f    a finder factory
+	 * @param con  a concurrency flag
+	 * @param p    a fork join pool
+	 * 
+	 * 
+	 * @see ForkJoinPool
+	 * @see Supplier
+	 * @see Path
+	 */
+	public PathBatch(Supplier<Path.Finder<O>> f, boolean con, ForkJoinPool p)
+	{
+		finders = f;
+		isConcurrent = con;
+		pool = p;
+	}
+	
+	/**
+	 * Creates a new {@code PathBatch}.
+	 * Every worker runs its own {@code AStarContext}.
+	 * 
+	 * @param h  a path heuristic
+	 * @param p  a fork join pool
+	 * 
+	 * 
+	 * @see ForkJoinPool
+	 * @see Heuristic
+	 */
+	public PathBatch(Heuristic<O> h, ForkJoinPool p)
+	{
+		this(() -> new AStarContext<>(h), h.isConcurrent(), p);
+	}
+	
+	/**
+	 * Creates a new {@code PathBatch}.
+	 * Every worker runs its own {@code AStarContext}
+	 * on the common {@code ForkJoinPool}.
+	 * 
+	 * @param h  a path heuristic
+	 * 
+	 * 
+	 * @see Heuristic
+	 */
+	public PathBatch(Heuristic<O> h)
+	{
+		this(h, ForkJoinPool.commonPool());
+	}
+	
+	
+	/**
+	 * Solves a list of requests in the {@code PathBatch}.
+	 * 
+	 * @param reqs  a request list
+	 * @return  a list of result paths
+	 * 
+	 * 
+	 * @see Request
+	 * @see List
+	 */
+	public List<Path<O>> solve(List<Request<O>> reqs)
+	{
+		List<Path<O>> paths = new ArrayList<>(reqs.size());
+		for(int i = 0; i < reqs.size(); i++)
+		{
+			paths.add(null);
+		}
+		
+		// The finders are dropped after the batch.
+		Queue<Path.Finder<O>> idle = new ConcurrentLinkedQueue<>();
+		// If the heuristic cannot be shared...
+		if(!isConcurrent)
+		{
+			// ...solve all requests in sequence.
+			solve(reqs, paths, idle, 0, reqs.size());
+			return paths;
+		}
+		
+		pool.invoke(new Solver(reqs, paths, idle, 0, reqs.size()));
+		return paths;
+	}
+	
+	
+	private void solve(List<Request<O>> reqs, List<Path<O>> paths, Queue<Path.Finder<O>> idle, int min, int max)
+	{
+		// Borrow an idle finder, or create one.
+		Path.Finder<O> finder = idle.poll();
+		if(finder == null)
+		{
+			finder = finders.get();
+		}
+		
+		for(int i = min; i < max; i++)
+		{
+			Request<O> req = reqs.get(i);
+			Path<O> path = finder.connect(req.Source(), req.Target());
+			paths.set(i, path);
+		}
+		
+		idle.offer(finder);
+	}
+	
+	private class Solver extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+		
+		private int min, max;
+		private List<Path<O>> paths;
+		private List<Request<O>> reqs;
+		private Queue<Path.Finder<O>> idle;
+		
+		public Solver(List<Request<O>> r, List<Path<O>> p, Queue<Path.Finder<O>> q, int i, int j)
+		{
+			reqs = r;
+			paths = p;
+			idle = q;
+			min = i;
+			max = j;
+		}
+		
+		@Override
+		protected void compute()
+		{
+			// Small ranges are solved directly...
+			if(max - min <= THRESHOLD)
+			{
+				solve(reqs, paths, idle, min, max);
+				return;
+			}
+			
+			// ...while larger ones are split in half.
+			int mid = (min + max) / 2;
+			invokeAll
+			(
+				new Solver(reqs, paths, idle, min, mid),
+				new Solver(reqs, paths, idle, mid, max)
+			);
+		}
+	}
+}
\ No newline at end of file
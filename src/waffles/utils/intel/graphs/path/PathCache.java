@@ -0,0 +1,264 @@
+package waffles.utils.intel.graphs.path;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import waffles.utils.intel.graphs.Path;
+
+/**
+ * A {@code PathCache} decorates a {@code Path.Finder} with a bounded cache of recent results.
+ * Paths are stored per source and target pair, and evicted in least-recently-used order
+ * once the capacity is exceeded. Every cached path is also indexed by the objects it passes
+ * through, so a change to a single object or region only drops the paths which cross it.
+ * Since a {@code Path} cannot be modified, cached paths are safely shared between callers.
+ * Failed connections are never cached, since a later change may open a path.
+ * The cache can be shared between threads. A single finder is then called by
+ * one thread at a time, unless every thread is given its own finder, and a
+ * path computed while an object was invalidated is never cached.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <O>  an object type
+ * @see Path
+ */
+public class PathCache<O> implements Path.Finder<O>
+{
+	private int capacity;
+	private long generation;
+	private long hits, misses;
+	
+	private Object lock;
+	private Path.Finder<O> finder;
+	private ThreadLocal<Path.Finder<O>> finders;
+	
+	private Map<O, Set<Map.Entry<O, O>>> index;
+	private LinkedHashMap<Map.Entry<O, O>, Path<O>> paths;
+	
+	/**
+	 * Creates a new {@code PathCache}.
+	 * 
+	 * @param f    a path finder
+	 * @param cap  a path capacity
+	 * 
+	 * 
+	 * @see Path
+	 */
+	public PathCache(Path.Finder<O> f, int cap)
+	{
+		paths = new LinkedHashMap<>(16, 0.75f, true);
+		index = new HashMap<>();
+		lock = new Object();
+		capacity = cap;
+		finder = f;
+	}
+	
+	/**
+	 * Creates a new {@code PathCache}.
+	 * Every thread lazily creates its own
+	 * finder, which it reuses for all of
+	 * its uncached connections.
+	 * 
+	 * @param f    a finder factory
+	 * @param cap  a path capacity
+	 * 
+	 * 
+	 * @see Supplier
+	 * @see Path
+	 */
+	public PathCache(Supplier<Path.Finder<O>> f, int cap)
+	{
+		paths = new LinkedHashMap<>(16, 0.75f, true);
+		finders = ThreadLocal.withInitial(f);
+		index = new HashMap<>();
+		capacity = cap;
+	}
+	
+	
+	/**
+	 * Invalidates an object in the {@code PathCache}.
+	 * This drops all cached paths through it.
+	 * 
+	 * @param obj  a changed object
+	 */
+	public synchronized void invalidate(O obj)
+	{
+		// Drop paths which are still being computed.
+		generation++;
+		
+		Set<Map.Entry<O, O>> keys = index.remove(obj);
+		if(keys != null)
+		{
+			for(Map.Entry<O, O> key : keys)
+			{
+				Path<O> path = paths.remove(key);
+				if(path != null)
+				{
+					unindex(key, path);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Invalidates a region in the {@code PathCache}.
+	 * This drops all cached paths through it.
+	 * 
+	 * @param region  a set of changed objects
+	 * 
+	 * 
+	 * @see Iterable
+	 */
+	public synchronized void invalidate(Iterable<O> region)
+	{
+		for(O obj : region)
+		{
+			invalidate(obj);
+		}
+	}
+	
+	/**
+	 * Returns the hit count of the {@code PathCache}.
+	 * 
+	 * @return  a hit count
+	 */
+	public synchronized long Hits()
+	{
+		return hits;
+	}
+	
+	/**
+	 * Returns the miss count of the {@code PathCache}.
+	 * 
+	 * @return  a miss count
+	 */
+	public synchronized long Misses()
+	{
+		return misses;
+	}
+	
+	/**
+	 * Returns the size of the {@code PathCache}.
+	 * 
+	 * @return  a path count
+	 */
+	public synchronized int Count()
+	{
+		return paths.size();
+	}
+	
+	/**
+	 * Clears the {@code PathCache}.
+	 * The hit and miss counters are kept.
+	 */
+	public synchronized void clear()
+	{
+		generation++;
+		paths.clear();
+		index.clear();
+	}
+	
+	
+	@Override
+	public Path<O> connect(O src, O tgt)
+	{
+		Map.Entry<O, O> key = new SimpleImmutableEntry<>(src, tgt);
+		
+		long gen;
+		synchronized(this)
+		{
+			// If the path is cached...
+			Path<O> path = paths.get(key);
+			if(path != null)
+			{
+				// ...return it right away.
+				hits++;
+				return path;
+			}
+			
+			gen = generation;
+			misses++;
+		}
+		
+		// Otherwise, find and cache the path.
+		Path<O> path = find(src, tgt);
+		if(path != null)
+		{
+			store(key, path, gen);
+		}
+		
+		return path;
+	}
+	
+	
+	private Path<O> find(O src, O tgt)
+	{
+		// If every thread has its own finder...
+		if(finder == null)
+		{
+			// ...it can be called right away.
+			return finders.get().connect(src, tgt);
+		}
+		
+		// Otherwise, the shared finder is serialized.
+		synchronized(lock)
+		{
+			return finder.connect(src, tgt);
+		}
+	}
+	
+	private synchronized void store(Map.Entry<O, O> key, Path<O> path, long gen)
+	{
+		// If an object changed during the search...
+		if(gen != generation)
+		{
+			// ...the path might be outdated.
+			return;
+		}
+		
+		Path<O> old = paths.put(key, path);
+		if(old != null)
+		{
+			unindex(key, old);
+		}
+		
+		for(O obj : path)
+		{
+			index.computeIfAbsent(obj, o -> new HashSet<>()).add(key);
+		}
+		
+		// Evict the least recently used paths.
+		Iterator<Map.Entry<Map.Entry<O, O>, Path<O>>> iter = paths.entrySet().iterator();
+		while(capacity < paths.size() && iter.hasNext())
+		{
+			Map.Entry<Map.Entry<O, O>, Path<O>> eldest = iter.next();
+			iter.remove();
+			
+			unindex(eldest.getKey(), eldest.getValue());
+		}
+	}
+	
+	private void unindex(Map.Entry<O, O> key, Path<O> path)
+	{
+		for(O obj : path)
+		{
+			Set<Map.Entry<O, O>> keys = index.get(obj);
+			if(keys != null)
+			{
+				keys.remove(key);
+				if(keys.isEmpty())
+				{
+					index.remove(obj);
+				}
+			}
+		}
+	}
+}
\ No newline at end of file
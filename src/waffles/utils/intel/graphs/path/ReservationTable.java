@@ -0,0 +1,209 @@
+package waffles.utils.intel.graphs.path;
+
+/**
+ * A {@code ReservationTable} maps tile and tick pairs to the agent which reserved them.
+ * Each pair is packed into a single {@code long} key, and stored in an open-addressed hash
+ * table with linear probing. Removed keys shift their successors back, so the table never
+ * fills up with tombstones. No objects are allocated, except when the table grows.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @see CooperativeSearch
+ */
+public class ReservationTable
+{
+	private static final long EMPTY = -1L;
+	
+	
+	/**
+	 * Packs a tile and tick into a key.
+	 * 
+	 * @param tile  a tile index
+	 * @param tick  a time tick
+	 * @return  a packed key
+	 */
+	public static long key(int tile, int tick)
+	{
+		return ((long) tick << 32) | (tile & 0xFFFFFFFFL);
+	}
+	
+	
+	private int count, mask;
+	private long[] keys;
+	private int[] values;
+	
+	/**
+	 * Creates a new {@code ReservationTable}.
+	 * 
+	 * @param cap  an initial capacity
+	 */
+	public ReservationTable(int cap)
+	{
+		int size = 16;
+		while(size < 2 * cap)
+		{
+			size *= 2;
+		}
+		
+		create(size);
+	}
+	
+	
+	/**
+	 * Reserves a tile in the {@code ReservationTable}.
+	 * 
+	 * @param tile   a tile index
+	 * @param tick   a time tick
+	 * @param agent  an agent index
+	 * @return  {@code true} if it was free or already owned
+	 */
+	public boolean reserve(int tile, int tick, int agent)
+	{
+		long key = key(tile, tick);
+		int i = slot(key);
+		// If the key is already reserved...
+		if(keys[i] == key)
+		{
+			// ...it can only be owned once.
+			return values[i] == agent;
+		}
+		
+		keys[i] = key;
+		values[i] = agent;
+		// Keep the load factor below one half.
+		if(keys.length < 2 * ++count)
+		{
+			grow();
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Releases a tile in the {@code ReservationTable}.
+	 * 
+	 * @param tile  a tile index
+	 * @param tick  a time tick
+	 */
+	public void release(int tile, int tick)
+	{
+		int i = slot(key(tile, tick));
+		if(keys[i] == EMPTY)
+		{
+			return;
+		}
+		
+		// Shift the following keys back.
+		int j = i;
+		while(true)
+		{
+			j = (j + 1) & mask;
+			if(keys[j] == EMPTY)
+			{
+				break;
+			}
+			
+			// If the key can move into the gap...
+			int home = hash(keys[j]);
+			if(((j - home) & mask) >= ((j - i) & mask))
+			{
+				keys[i] = keys[j];
+				values[i] = values[j];
+				i = j;
+			}
+		}
+		
+		keys[i] = EMPTY;
+		count--;
+	}
+	
+	/**
+	 * Returns the owner of a tile in the {@code ReservationTable}.
+	 * 
+	 * @param tile  a tile index
+	 * @param tick  a time tick
+	 * @return  an agent index, or -1 if free
+	 */
+	public int get(int tile, int tick)
+	{
+		long key = key(tile, tick);
+		int i = slot(key);
+		if(keys[i] == key)
+		{
+			return values[i];
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the size of the {@code ReservationTable}.
+	 * 
+	 * @return  a reservation count
+	 */
+	public int Count()
+	{
+		return count;
+	}
+	
+	/**
+	 * Clears the {@code ReservationTable}.
+	 */
+	public void clear()
+	{
+		for(int i = 0; i < keys.length; i++)
+		{
+			keys[i] = EMPTY;
+		}
+		
+		count = 0;
+	}
+	
+	
+	private int slot(long key)
+	{
+		int i = hash(key);
+		while(keys[i] != EMPTY && keys[i] != key)
+		{
+			i = (i + 1) & mask;
+		}
+		
+		return i;
+	}
+	
+	private int hash(long key)
+	{
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32)) & mask;
+	}
+	
+	private void create(int size)
+	{
+		keys = new long[size];
+		values = new int[size];
+		mask = size - 1;
+		count = 0;
+		clear();
+	}
+	
+	private void grow()
+	{
+		long[] oKeys = keys;
+		int[] oValues = values;
+		
+		create(2 * oKeys.length);
+		for(int i = 0; i < oKeys.length; i++)
+		{
+			if(oKeys[i] != EMPTY)
+			{
+				int j = slot(oKeys[i]);
+				keys[j] = oKeys[i];
+				values[j] = oValues[i];
+				count++;
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,202 @@
+package waffles.utils.intel.graphs.path;
+
+import waffles.utils.geom.spaces.index.TiledSpace2D;
+import waffles.utils.geom.spaces.index.tiles.Tiled2D;
+import waffles.utils.intel.bham.TiledBresenham;
+import waffles.utils.tools.primitives.Floats;
+
+/**
+ * The {@code ThetaStarSearch} algorithm computes an any-angle path on a {@code TiledSpace2D}.
+ * It expands tiles like a {@code TiledSearch}, but whenever the parent of a tile can see one of its
+ * successors, that successor is linked to the parent directly. Sight is checked by walking the
+ * line between both tiles with a {@code TiledBresenham}, which may not enter blocked tiles or
+ * cut their corners. A straight line is charged its euclidean length, weighted by the mean
+ * cost of the tiles it crosses. Since parents only link to visible tiles, the resulting
+ * {@code Path} holds just the turning points of the route, rather than every tile.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <T>  a tile type
+ * @see <a href="https://en.wikipedia.org/wiki/Theta*">Theta* search algorithm</a>
+ * @see TiledBresenham
+ * @see TiledFinder
+ * @see Tiled2D
+ */
+public class ThetaStarSearch<T extends Tiled2D> extends TiledFinder<T>
+{
+	private static final int[] DROWS = { -1,  0, +1,  0, -1, -1, +1, +1 };
+	private static final int[] DCOLS = {  0, +1,  0, -1, -1, +1, +1, -1 };
+	
+	
+	private TiledBresenham<T> line;
+	
+	/**
+	 * Creates a new {@code ThetaStarSearch}.
+	 * 
+	 * @param s    a tiled space
+	 * @param lyt  a tiled layout
+	 * 
+	 * 
+	 * @see TiledLayout
+	 * @see TiledSpace2D
+	 */
+	public ThetaStarSearch(TiledSpace2D<T> s, TiledLayout<T> lyt)
+	{
+		super(s, lyt);
+		line = new TiledBresenham<>(s);
+	}
+	
+	
+	@Override
+	protected void expand(int curr, int tgt)
+	{
+		int r = curr / Columns();
+		int c = curr % Columns();
+		int p = parent(curr);
+		
+		int dirs = Layout().hasDiagonals() ? 8 : 4;
+		for(int d = 0; d < dirs; d++)
+		{
+			int nr = r + DROWS[d];
+			int nc = c + DCOLS[d];
+			// If the neighbour is blocked...
+			if(!isOpen(nr, nc))
+			{
+				continue;
+			}
+			
+			float step = 1f;
+			// If the step is diagonal...
+			if(4 <= d)
+			{
+				// ...it cannot cut a blocked corner.
+				if(!isOpen(r, nc) || !isOpen(nr, c))
+				{
+					continue;
+				}
+				
+				step = DIAGONAL;
+			}
+			
+			int next = index(nr, nc);
+			float score = score(curr) + step * cost(next);
+			// If the parent can see the neighbour...
+			float sight = 0 <= p ? sight(p, next) : Floats.MAX_VALUE;
+			if(sight < Floats.MAX_VALUE)
+			{
+				// ...and the straight line is cheaper...
+				float direct = score(p) + sight;
+				if(direct <= score)
+				{
+					// ...skip the current tile.
+					relax(next, p, direct, tgt);
+					continue;
+				}
+			}
+			
+			relax(next, curr, score, tgt);
+		}
+	}
+	
+	/**
+	 * Returns an estimate between tile indices.
+	 * Any-angle paths can be shorter than grid paths,
+	 * so this is the euclidean distance scaled by
+	 * the minimum cost of the layout.
+	 * 
+	 * @param src  a source index
+	 * @param tgt  a target index
+	 * @return  a cost estimate
+	 */
+	@Override
+	protected float estimate(int src, int tgt)
+	{
+		if(tgt < 0)
+		{
+			return 0f;
+		}
+		
+		int dr = src / Columns() - tgt / Columns();
+		int dc = src % Columns() - tgt % Columns();
+		return Floats.sqrt(dr * dr + dc * dc) * Layout().MinimumCost();
+	}
+	
+	/**
+	 * Returns the cost of a step between tile indices.
+	 * Turning points are linked by straight lines,
+	 * so this is the cost of the line between them.
+	 * 
+	 * @param src  a source index
+	 * @param tgt  a target index
+	 * @return  a step cost
+	 */
+	@Override
+	protected float step(int src, int tgt)
+	{
+		return sight(src, tgt);
+	}
+	
+	
+	private float sight(int src, int tgt)
+	{
+		// A tile always sees itself for free.
+		if(src == tgt)
+		{
+			return 0f;
+		}
+		
+		T s = tile(src);
+		T t = tile(tgt);
+		
+		int pr = s.Row();
+		int pc = s.Column();
+		
+		int steps = 0;
+		float sum = 0f;
+		line.initialize(s, t);
+		while(line.hasNext())
+		{
+			T next = line.next();
+			int nr = next.Row();
+			int nc = next.Column();
+			// Skip the source tile.
+			if(nr == pr && nc == pc)
+			{
+				continue;
+			}
+			
+			// The line cannot enter a blocked tile...
+			if(!isOpen(nr, nc))
+			{
+				return Floats.MAX_VALUE;
+			}
+			
+			// ...nor cut a blocked corner.
+			if(nr != pr && nc != pc)
+			{
+				if(!isOpen(pr, nc) || !isOpen(nr, pc))
+				{
+					return Floats.MAX_VALUE;
+				}
+			}
+			
+			sum += cost(index(nr, nc));
+			pr = nr; pc = nc;
+			steps++;
+		}
+		
+		if(steps == 0)
+		{
+			return 0f;
+		}
+		
+		// Weigh the length by the mean tile cost.
+		int dr = t.Row() - s.Row();
+		int dc = t.Column() - s.Column();
+		float length = Floats.sqrt(dr * dr + dc * dc);
+		return length * sum / steps;
+	}
+}
\ No newline at end of file
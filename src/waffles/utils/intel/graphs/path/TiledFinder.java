@@ -0,0 +1,485 @@
+package waffles.utils.intel.graphs.path;
+
+import waffles.utils.geom.spaces.index.TiledSpace2D;
+import waffles.utils.geom.spaces.index.tiles.Tiled2D;
+import waffles.utils.intel.graphs.Path;
+import waffles.utils.tools.primitives.Floats;
+import waffles.utils.tools.primitives.Integers;
+
+/**
+ * A {@code TiledFinder} provides the primitive search state for a {@code Path.Finder} on a {@code TiledSpace2D}.
+ * Every tile is addressed by its flat index {@code row * width + col}. Path costs, parent links and open list
+ * positions are all stored in primitive arrays, which are allocated once and reused by every search through
+ * generation stamps. A search can be bounded to a rectangle of the grid, and a search without
+ * a target floods the entire bounded region. Subclasses only decide how a tile is
+ * expanded into its successors.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <T>  a tile type
+ * @see Path
+ * @see Tiled2D
+ */
+public abstract class TiledFinder<T extends Tiled2D> implements Path.Finder<T>
+{
+	/**
+	 * The cost of a diagonal step on a tile grid.
+	 */
+	public static final float DIAGONAL = Floats.sqrt(2f);
+	/**
+	 * The cost which marks a tile as blocked.
+	 */
+	protected static final float BLOCKED = -1f;
+	
+	
+	private int rows, cols;
+	private int rMin, cMin, rMax, cMax;
+	private TiledLayout<T> layout;
+	private TiledSpace2D<T> space;
+	
+	private int stamp;
+	private float[] costs, scores;
+	private int[] seen, done, rated, parents;
+	private IndexQueue queue;
+	
+	/**
+	 * Creates a new {@code TiledFinder}.
+	 * 
+	 * @param s    a tiled space
+	 * @param lyt  a tiled layout
+	 * 
+	 * 
+	 * @see TiledLayout
+	 * @see TiledSpace2D
+	 */
+	public TiledFinder(TiledSpace2D<T> s, TiledLayout<T> lyt)
+	{
+		int[] dims = s.Dimensions();
+		rows = dims[0];
+		cols = dims[1];
+		
+		int size = rows * cols;
+		costs = new float[size];
+		scores = new float[size];
+		parents = new int[size];
+		rated = new int[size];
+		seen = new int[size];
+		done = new int[size];
+		
+		queue = new IndexQueue(size);
+		layout = lyt;
+		space = s;
+		
+		clearBounds();
+	}
+	
+	
+	/**
+	 * Bounds the {@code TiledFinder} to a rectangle.
+	 * Tiles outside of the bounds are considered
+	 * blocked until the bounds are cleared.
+	 * 
+	 * @param r0  a minimum row
+	 * @param c0  a minimum column
+	 * @param r1  an exclusive maximum row
+	 * @param c1  an exclusive maximum column
+	 */
+	public void setBounds(int r0, int c0, int r1, int c1)
+	{
+		rMin = r0 < 0 ? 0 : r0;
+		cMin = c0 < 0 ? 0 : c0;
+		rMax = rows < r1 ? rows : r1;
+		cMax = cols < c1 ? cols : c1;
+	}
+	
+	/**
+	 * Clears the bounds of the {@code TiledFinder}.
+	 */
+	public void clearBounds()
+	{
+		setBounds(0, 0, rows, cols);
+	}
+	
+	
+	/**
+	 * Computes an optimal path between tile indices.
+	 * The result can be read with {@link #trace(int)}.
+	 * If the target is negative, optimal paths are
+	 * computed to every reachable tile instead.
+	 * 
+	 * @param src  a source index
+	 * @param tgt  a target index
+	 * @return  {@code true} if the target was reached
+	 */
+	public boolean search(int src, int tgt)
+	{
+		reset();
+		// If the source is blocked...
+		if(cost(src) == BLOCKED)
+		{
+			// Finish the search.
+			return false;
+		}
+		
+		visit(src, -1, 0f, tgt);
+		while(!queue.isEmpty())
+		{
+			// Find the next tile.
+			int curr = queue.pop();
+			// If it reaches the destination...
+			if(curr == tgt)
+			{
+				// Finish the search.
+				return true;
+			}
+			
+			// Otherwise, expand the tile.
+			done[curr] = stamp;
+			expand(curr, tgt);
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Traces the path to a tile index.
+	 * This returns the result of the
+	 * latest {@link #search(int, int)}.
+	 * 
+	 * @param tgt  a target index
+	 * @return  a tile path
+	 * 
+	 * 
+	 * @see Path
+	 */
+	public Path<T> trace(int tgt)
+	{
+		if(seen[tgt] != stamp)
+		{
+			return null;
+		}
+		
+		// Count the length of the path.
+		int length = 0;
+		for(int i = tgt; i >= 0; i = parents[i])
+		{
+			length++;
+		}
+		
+		// Collect the tiles in reverse.
+		int[] nodes = new int[length];
+		for(int i = tgt, j = length - 1; i >= 0; i = parents[i], j--)
+		{
+			nodes[j] = i;
+		}
+		
+		return convert(nodes);
+	}
+	
+	/**
+	 * Returns the cost of a tile index.
+	 * This is the cost of the optimal path to
+	 * that tile found by the latest search.
+	 * 
+	 * @param tgt  a target index
+	 * @return  a path cost
+	 */
+	public float Score(int tgt)
+	{
+		if(seen[tgt] != stamp)
+		{
+			return Floats.MAX_VALUE;
+		}
+		
+		return scores[tgt];
+	}
+	
+	/**
+	 * Returns the index of a tile in the {@code TiledFinder}.
+	 * 
+	 * @param row  a tile row
+	 * @param col  a tile column
+	 * @return  a tile index
+	 */
+	public int index(int row, int col)
+	{
+		return row * cols + col;
+	}
+	
+	/**
+	 * Returns a tile in the {@code TiledFinder}.
+	 * 
+	 * @param i  a tile index
+	 * @return  a grid tile
+	 */
+	public T tile(int i)
+	{
+		return space.get(i / cols, i % cols);
+	}
+	
+	/**
+	 * Returns the layout of the {@code TiledFinder}.
+	 * 
+	 * @return  a tiled layout
+	 * 
+	 * 
+	 * @see TiledLayout
+	 */
+	public TiledLayout<T> Layout()
+	{
+		return layout;
+	}
+	
+	/**
+	 * Returns the space of the {@code TiledFinder}.
+	 * 
+	 * @return  a tiled space
+	 * 
+	 * 
+	 * @see TiledSpace2D
+	 */
+	public TiledSpace2D<T> Space()
+	{
+		return space;
+	}
+	
+	/**
+	 * Returns the row count of the {@code TiledFinder}.
+	 * 
+	 * @return  a row count
+	 */
+	public int Rows()
+	{
+		return rows;
+	}
+	
+	/**
+	 * Returns the column count of the {@code TiledFinder}.
+	 * 
+	 * @return  a column count
+	 */
+	public int Columns()
+	{
+		return cols;
+	}
+	
+	
+	/**
+	 * Resets the search state of the {@code TiledFinder}.
+	 * This also discards all cached tile costs.
+	 */
+	protected void reset()
+	{
+		stamp++;
+		// If the stamps overflow...
+		if(stamp == Integer.MAX_VALUE)
+		{
+			// ...clear all of them.
+			for(int i = 0; i < seen.length; i++)
+			{
+				rated[i] = 0;
+				seen[i] = 0;
+				done[i] = 0;
+			}
+			
+			stamp = 1;
+		}
+		
+		queue.clear();
+	}
+	
+	/**
+	 * Expands a tile in the {@code TiledFinder}.
+	 * Every successor of the tile should be
+	 * passed to {@link #relax(int, int, float, int)}.
+	 * 
+	 * @param curr  a current index
+	 * @param tgt   a target index
+	 */
+	protected abstract void expand(int curr, int tgt);
+	
+	/**
+	 * Converts tile indices into a {@code Path}.
+	 * 
+	 * @param nodes  a tile index array
+	 * @return  a tile path
+	 * 
+	 * 
+	 * @see Path
+	 */
+	protected Path<T> convert(int[] nodes)
+	{
+		Path<T> path = new Path<>();
+		for(int i = 0; i < nodes.length; i++)
+		{
+			// The source tile is entered for free.
+			float step = i == 0 ? 0f : step(nodes[i - 1], nodes[i]);
+			path = new Path<>(path, tile(nodes[i]), step);
+		}
+		
+		return path;
+	}
+	
+	/**
+	 * Relaxes a successor in the {@code TiledFinder}.
+	 * If the new path is cheaper than the known one,
+	 * the successor is updated in the open list.
+	 * 
+	 * @param node    a successor index
+	 * @param parent  a parent index
+	 * @param score   a path cost
+	 * @param tgt     a target index
+	 */
+	protected void relax(int node, int parent, float score, int tgt)
+	{
+		if(done[node] != stamp)
+		{
+			if(seen[node] != stamp || score < scores[node])
+			{
+				visit(node, parent, score, tgt);
+			}
+		}
+	}
+	
+	/**
+	 * Returns the parent of a tile index.
+	 * 
+	 * @param i  a tile index
+	 * @return  a parent index, or -1 if none
+	 */
+	protected int parent(int i)
+	{
+		return parents[i];
+	}
+	
+	/**
+	 * Returns the path cost of a tile index.
+	 * 
+	 * @param i  a tile index
+	 * @return  a path cost
+	 */
+	protected float score(int i)
+	{
+		return scores[i];
+	}
+	
+	/**
+	 * Returns an estimate between tile indices.
+	 * This is the octile distance on 8-connected grids,
+	 * and the Manhattan distance otherwise, scaled
+	 * by the minimum cost of the layout.
+	 * 
+	 * @param src  a source index
+	 * @param tgt  a target index
+	 * @return  a cost estimate
+	 */
+	protected float estimate(int src, int tgt)
+	{
+		if(tgt < 0)
+		{
+			return 0f;
+		}
+		
+		int dr = Integers.abs(src / cols - tgt / cols);
+		int dc = Integers.abs(src % cols - tgt % cols);
+		
+		float dist = dr + dc;
+		// Use the octile distance on 8-connected grids.
+		if(layout.hasDiagonals())
+		{
+			int min = dr < dc ? dr : dc;
+			dist += (DIAGONAL - 2f) * min;
+		}
+		
+		return dist * layout.MinimumCost();
+	}
+	
+	/**
+	 * Checks if a tile is open in the {@code TiledFinder}.
+	 * 
+	 * @param row  a tile row
+	 * @param col  a tile column
+	 * @return  {@code true} if the tile exists and is not blocked
+	 */
+	protected boolean isOpen(int row, int col)
+	{
+		if(row < rMin || rMax <= row) return false;
+		if(col < cMin || cMax <= col) return false;
+		return cost(index(row, col)) != BLOCKED;
+	}
+	
+	/**
+	 * Returns the cost of a step between tile indices.
+	 * This is the cost of the entered tile, scaled by
+	 * the length of the step. Both tiles are assumed
+	 * to be adjacent, so finders which link distant
+	 * tiles should override this method.
+	 * 
+	 * @param src  a source index
+	 * @param tgt  a target index
+	 * @return  a step cost
+	 */
+	protected float step(int src, int tgt)
+	{
+		float cost = cost(tgt);
+		// If the step is diagonal...
+		if(src / cols != tgt / cols && src % cols != tgt % cols)
+		{
+			return DIAGONAL * cost;
+		}
+		
+		return cost;
+	}
+	
+	/**
+	 * Returns the cost of a tile index.
+	 * The layout is queried at most
+	 * once per tile in each search.
+	 * 
+	 * @param i  a tile index
+	 * @return  a tile cost, or {@link #BLOCKED}
+	 */
+	protected float cost(int i)
+	{
+		if(rated[i] != stamp)
+		{
+			T tile = tile(i);
+			if(layout.isBlocked(tile))
+				costs[i] = BLOCKED;
+			else
+				costs[i] = layout.cost(tile);
+			
+			rated[i] = stamp;
+		}
+		
+		return costs[i];
+	}
+	
+	
+	@Override
+	public Path<T> connect(T src, T tgt)
+	{
+		int s = index(src.Row(), src.Column());
+		int t = index(tgt.Row(), tgt.Column());
+		
+		if(search(s, t))
+		{
+			return trace(t);
+		}
+		
+		return null;
+	}
+	
+	
+	private void visit(int node, int parent, float score, int tgt)
+	{
+		seen[node] = stamp;
+		scores[node] = score;
+		parents[node] = parent;
+		
+		queue.push(node, score + estimate(node, tgt));
+	}
+}
\ No newline at end of file
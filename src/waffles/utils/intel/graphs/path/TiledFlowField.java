@@ -0,0 +1,164 @@
+package waffles.utils.intel.graphs.path;
+
+import waffles.utils.geom.spaces.index.TiledSpace2D;
+import waffles.utils.geom.spaces.index.tiles.Tiled2D;
+import waffles.utils.tools.primitives.Floats;
+
+/**
+ * A {@code TiledFlowField} computes a {@code FlowField} over the tiles of a {@code TiledSpace2D}.
+ * It floods the grid once with a reversed {@code TiledSearch} from the target, then copies the
+ * resulting distances and parent links into primitive arrays indexed by tile. Agents can read
+ * their next step either by tile or by flat index, neither of which allocates.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <T>  a tile type
+ * @see TiledSearch
+ * @see FlowField
+ * @see Tiled2D
+ */
+public class TiledFlowField<T extends Tiled2D> implements FlowField<T>
+{
+	private T target;
+	private int count;
+	private int rows, cols;
+	private TiledSpace2D<T> space;
+	
+	private int[] nexts;
+	private float[] dists;
+	
+	/**
+	 * Creates a new {@code TiledFlowField}.
+	 * The search can be shared between fields,
+	 * since its state is copied once flooded.
+	 * 
+	 * @param s    a tiled search
+	 * @param tgt  a target tile
+	 * 
+	 * 
+	 * @see TiledSearch
+	 */
+	public TiledFlowField(TiledSearch<T> s, T tgt)
+	{
+		rows = s.Rows();
+		cols = s.Columns();
+		space = s.Space();
+		target = tgt;
+		
+		// Flood the grid backward from the target.
+		s.setReversed(true);
+		s.search(s.index(tgt.Row(), tgt.Column()), -1);
+		s.setReversed(false);
+		
+		dists = new float[rows * cols];
+		nexts = new int[rows * cols];
+		for(int i = 0; i < dists.length; i++)
+		{
+			dists[i] = s.Score(i);
+			nexts[i] = -1;
+			
+			if(dists[i] < Floats.MAX_VALUE)
+			{
+				nexts[i] = s.parent(i);
+				count++;
+			}
+		}
+	}
+	
+	/**
+	 * Creates a new {@code TiledFlowField}.
+	 * 
+	 * @param s    a tiled space
+	 * @param lyt  a tiled layout
+	 * @param tgt  a target tile
+	 * 
+	 * 
+	 * @see TiledLayout
+	 * @see TiledSpace2D
+	 */
+	public TiledFlowField(TiledSpace2D<T> s, TiledLayout<T> lyt, T tgt)
+	{
+		this(new TiledSearch<>(s, lyt), tgt);
+	}
+	
+	
+	/**
+	 * Returns the distance of a tile index.
+	 * 
+	 * @param i  a tile index
+	 * @return  a path cost, or {@code Floats.MAX_VALUE} if unreachable
+	 */
+	public float Distance(int i)
+	{
+		return dists[i];
+	}
+	
+	/**
+	 * Returns the next step of a tile index.
+	 * 
+	 * @param i  a tile index
+	 * @return  a next index, or -1 if none
+	 */
+	public int next(int i)
+	{
+		return nexts[i];
+	}
+	
+	
+	@Override
+	public boolean dependsOn(T obj)
+	{
+		int r = obj.Row();
+		int c = obj.Column();
+		
+		// A tile matters if it or a neighbour was reached.
+		for(int nr = r - 1; nr <= r + 1; nr++)
+		{
+			for(int nc = c - 1; nc <= c + 1; nc++)
+			{
+				if(0 <= nr && nr < rows && 0 <= nc && nc < cols)
+				{
+					if(dists[nr * cols + nc] < Floats.MAX_VALUE)
+					{
+						return true;
+					}
+				}
+			}
+		}
+		
+		return false;
+	}
+	
+	@Override
+	public float Distance(T src)
+	{
+		return dists[src.Row() * cols + src.Column()];
+	}
+	
+	@Override
+	public T next(T src)
+	{
+		int next = nexts[src.Row() * cols + src.Column()];
+		if(next < 0)
+		{
+			return null;
+		}
+		
+		return space.get(next / cols, next % cols);
+	}
+	
+	@Override
+	public T Target()
+	{
+		return target;
+	}
+	
+	@Override
+	public int Count()
+	{
+		return count;
+	}
+}
\ No newline at end of file
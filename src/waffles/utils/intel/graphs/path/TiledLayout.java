@@ -0,0 +1,57 @@
+package waffles.utils.intel.graphs.path;
+
+import waffles.utils.geom.spaces.index.tiles.Tiled2D;
+import waffles.utils.intel.utilities.Cost;
+import waffles.utils.tools.primitives.Floats;
+
+/**
+ * A {@code TiledLayout} defines the parameters of a path search on a {@code Tiled2D} grid.
+ * The cost of a tile is the cost of stepping onto it, where diagonal steps are scaled by
+ * the square root of two. A tile with a cost of {@code Floats.MAX_VALUE} is blocked,
+ * and diagonal steps are never allowed to cut the corner of a blocked tile.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <T>  a tile type
+ * @see Tiled2D
+ * @see Cost
+ */
+@FunctionalInterface
+public interface TiledLayout<T extends Tiled2D> extends Cost<T>
+{
+	/**
+	 * Checks if a tile blocks the {@code TiledLayout}.
+	 * 
+	 * @param tile  a grid tile
+	 * @return  {@code true} if the tile is impassable
+	 */
+	public default boolean isBlocked(T tile)
+	{
+		return cost(tile) >= Floats.MAX_VALUE;
+	}
+	
+	/**
+	 * Checks if the {@code TiledLayout} allows diagonal steps.
+	 * 
+	 * @return  {@code true} if the grid is 8-connected
+	 */
+	public default boolean hasDiagonals()
+	{
+		return true;
+	}
+	
+	/**
+	 * Returns the minimum cost of the {@code TiledLayout}.
+	 * This should be a lower bound on all tile costs,
+	 * as it scales the distance estimates of the search.
+	 * 
+	 * @return  a minimum tile cost
+	 */
+	public default float MinimumCost()
+	{
+		return 1f;
+	}
+}
\ No newline at end of file
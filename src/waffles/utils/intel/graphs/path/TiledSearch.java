@@ -0,0 +1,97 @@
+package waffles.utils.intel.graphs.path;
+
+import waffles.utils.geom.spaces.index.TiledSpace2D;
+import waffles.utils.geom.spaces.index.tiles.Tiled2D;
+
+/**
+ * The {@code TiledSearch} algorithm computes an optimal path between tiles of a {@code TiledSpace2D}.
+ * It performs the same search as an {@code AStarSearch}, but addresses every tile by its flat
+ * index {@code row * width + col}. Path costs, parent links and open list positions are all
+ * stored in primitive arrays, which are allocated once and reused by every search through
+ * generation stamps. Objects are only touched to query the {@code TiledLayout}, and
+ * to convert the result back into a {@code Path}. A reversed search charges every step
+ * for the tile it leaves rather than the tile it enters, which computes the cost of
+ * reaching the source from every tile when it floods the grid.
+ * 
+ * @author Waffles
+ * @since 18 Oct 2026
+ * @version 1.0
+ * 
+ * 
+ * @param <T>  a tile type
+ * @see <a href="http://en.wikipedia.org/wiki/A*">A* search algorithm</a>
+ * @see TiledFinder
+ * @see Tiled2D
+ */
+public class TiledSearch<T extends Tiled2D> extends TiledFinder<T>
+{
+	private static final int[] DROWS = { -1,  0, +1,  0, -1, -1, +1, +1 };
+	private static final int[] DCOLS = {  0, +1,  0, -1, -1, +1, +1, -1 };
+	
+	
+	private boolean isReversed;
+	
+	/**
+	 * Creates a new {@code TiledSearch}.
+	 * 
+	 * @param s    a tiled space
+	 * @param lyt  a tiled layout
+	 * 
+	 * 
+	 * @see TiledLayout
+	 * @see TiledSpace2D
+	 */
+	public TiledSearch(TiledSpace2D<T> s, TiledLayout<T> lyt)
+	{
+		super(s, lyt);
+	}
+	
+	/**
+	 * Changes the direction of the {@code TiledSearch}.
+	 * 
+	 * @param rev  {@code true} to reverse steps
+	 */
+	public void setReversed(boolean rev)
+	{
+		isReversed = rev;
+	}
+	
+	
+	@Override
+	protected void expand(int curr, int tgt)
+	{
+		int r = curr / Columns();
+		int c = curr % Columns();
+		
+		int dirs = Layout().hasDiagonals() ? 8 : 4;
+		for(int d = 0; d < dirs; d++)
+		{
+			int nr = r + DROWS[d];
+			int nc = c + DCOLS[d];
+			// If the neighbour is blocked...
+			if(!isOpen(nr, nc))
+			{
+				continue;
+			}
+			
+			float step = 1f;
+			// If the step is diagonal...
+			if(4 <= d)
+			{
+				// ...it cannot cut a blocked corner.
+				if(!isOpen(r, nc) || !isOpen(nr, c))
+				{
+					continue;
+				}
+				
+				step = DIAGONAL;
+			}
+			
+			int next = index(nr, nc);
+			// Charge the tile which the step enters.
+			float cost = cost(isReversed ? curr : next);
+			float score = score(curr) + step * cost;
+			relax(next, curr, score, tgt);
+		}
+	}
+}
\ No newline at end of file
@@ -12,6 +12,30 @@ package waffles.utils.intel.utilities;
  */
 public interface Cost<O>
 {
+	/**
+	 * A {@code Cost.Listener} is notified whenever the cost of an object changes.
+	 * Incremental algorithms implement it to repair their state locally,
+	 * instead of recomputing everything from scratch.
+	 * 
+	 * @author Waffles
+	 * @since 18 Oct 2026
+	 * @version 1.0
+	 * 
+	 * 
+	 * @param <O>  an object type
+	 */
+	@FunctionalInterface
+	public static interface Listener<O>
+	{
+		/**
+		 * Notifies a change in the cost of an object.
+		 * 
+		 * @param tgt  a target object
+		 */
+		public abstract void onChange(O tgt);
+	}
+	
+	
 	/**
 	 * Returns the cost of an object.
 	 * 
@@ -27,6 +27,23 @@ public interface Heuristic<O> extends Cost<O>
 	 */
 	public abstract Iterable<O> neighbours(O tgt);
 	
+	/**
+	 * Iterates over the predecessors of an object.
+	 * These are all objects which list it as a neighbour.
+	 * By default, the graph is assumed to be undirected,
+	 * so this should be overridden for directed graphs.
+	 * 
+	 * @param tgt  a target object
+	 * @return     a predecessor iterable
+	 * 
+	 * 
+	 * @see Iterable
+	 */
+	public default Iterable<O> predecessors(O tgt)
+	{
+		return neighbours(tgt);
+	}
+	
 	/**
 	 * Returns a cost estimate between objects.
 	 * 
@@ -36,6 +53,18 @@ public interface Heuristic<O> extends Cost<O>
 	 */
 	public abstract float estimate(O src, O tgt);
 
+	/**
+	 * Checks if the {@code Heuristic} is concurrent.
+	 * A concurrent heuristic can be queried from several
+	 * threads at once, which allows searches to share it.
+	 * 
+	 * @return  {@code true} if the heuristic is thread-safe
+	 */
+	public default boolean isConcurrent()
+	{
+		return false;
+	}
+	
 	
 	/**
 	 * Returns the cost of a {@code Path}.